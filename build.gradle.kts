@@ -8,13 +8,16 @@ description = "OpenAPI Migration"
 val rewriteVersion = rewriteRecipe.rewriteVersion.get()
 dependencies {
     implementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
+    implementation("org.openrewrite:rewrite-gradle")
     implementation("org.openrewrite:rewrite-java")
+    implementation("org.openrewrite:rewrite-json")
+    implementation("org.openrewrite:rewrite-maven")
+    implementation("org.openrewrite:rewrite-properties")
+    implementation("org.openrewrite:rewrite-yaml")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:$rewriteVersion")
 
     testImplementation("org.openrewrite:rewrite-java-21")
     testImplementation("org.openrewrite:rewrite-test")
-    testImplementation("org.openrewrite:rewrite-gradle")
-    testImplementation("org.openrewrite:rewrite-maven")
 
     testRuntimeOnly("io.swagger:swagger-annotations:1.6.13")
     testRuntimeOnly("io.swagger.core.v3:swagger-annotations:2.2.20")
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.openapi.table.InlineSchemaDeduplications;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.*;
+
+public class DeduplicateInlineSchemas extends Recipe {
+
+    private static final Pattern COMPONENT_NAME = Pattern.compile("[a-zA-Z0-9.\\-_]+");
+
+    transient InlineSchemaDeduplications deduplications = new InlineSchemaDeduplications(this);
+
+    @Getter
+    final String displayName = "Deduplicate inline schemas";
+
+    @Getter
+    final String description = "Replaces inline object schemas of an OpenAPI 3 document that are structurally identical to " +
+            "another inline schema, or to a schema in `components/schemas`, with a `$ref`. " +
+            "Schemas that are repeated inline are added to `components/schemas` under their `title`, " +
+            "or else under a generated name, in the order they first appear in the document.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping root = openApi3Root(document);
+                Yaml.Mapping.Entry components = root == null ? null : entry(root, "components");
+                if (root == null || components != null &&
+                    !(components.getValue() instanceof Yaml.Mapping && isBlock((Yaml.Mapping) components.getValue()))) {
+                    return document;
+                }
+
+                Deduplication deduplication = new Deduplication(ctx);
+                deduplication.walk(root, 0, Level.ROOT);
+                if (!deduplication.assignNames()) {
+                    return document;
+                }
+                deduplication.replace = true;
+                Yaml.Mapping deduplicated = withSchemas(deduplication.walk(root, 0, Level.ROOT), deduplication.hoisted, ctx);
+                Yaml.Document d = document.withBlock(deduplicated);
+
+                long bytesBefore = print(document).getBytes(UTF_8).length;
+                long bytesAfter = print(d).getBytes(UTF_8).length;
+                deduplications.insertRow(ctx, new InlineSchemaDeduplications.Row(
+                        getCursor().firstEnclosingOrThrow(Yaml.Documents.class).getSourcePath().toString(),
+                        deduplication.hoisted.size(),
+                        deduplication.replaced,
+                        bytesBefore,
+                        bytesAfter,
+                        bytesBefore - bytesAfter));
+                return d;
+            }
+
+            private Yaml.Mapping withSchemas(Yaml.Mapping root, Map<String, Occurrence> hoisted, ExecutionContext ctx) {
+                if (hoisted.isEmpty()) {
+                    return root;
+                }
+                Yaml.Mapping.Entry components = entry(root, "components");
+                if (components == null) {
+                    String text = "components:\n" + indent(2) + "schemas:" + schemas(hoisted, 4);
+                    return root.withEntries(ListUtils.concat(root.getEntries(), parseEntries(text, 0, ctx).get(0).withPrefix("\n")));
+                }
+
+                Yaml.Mapping componentsMapping = (Yaml.Mapping) components.getValue();
+                int column = column(componentsMapping, 2);
+                Yaml.Mapping.Entry schemas = entry(componentsMapping, "schemas");
+                Yaml.Mapping migratedComponents;
+                if (schemas != null && schemas.getValue() instanceof Yaml.Mapping && isBlock((Yaml.Mapping) schemas.getValue()) &&
+                    !((Yaml.Mapping) schemas.getValue()).getEntries().isEmpty()) {
+                    Yaml.Mapping schemasMapping = (Yaml.Mapping) schemas.getValue();
+                    int schemasColumn = column(schemasMapping, column + 2);
+                    List<Yaml.Mapping.Entry> added = parseEntries(schemas(hoisted, schemasColumn).substring(1), schemasColumn, ctx);
+                    Yaml.Mapping migratedSchemas = schemasMapping.withEntries(ListUtils.concatAll(schemasMapping.getEntries(), added));
+                    migratedComponents = componentsMapping.withEntries(ListUtils.map(componentsMapping.getEntries(),
+                            e -> e == schemas ? e.withValue(migratedSchemas) : e));
+                } else {
+                    Yaml.Mapping.Entry added = parseEntries(indent(column) + "schemas:" + schemas(hoisted, column + 2), column, ctx).get(0);
+                    migratedComponents = schemas == null ?
+                            componentsMapping.withEntries(ListUtils.concat(componentsMapping.getEntries(), added)) :
+                            componentsMapping.withEntries(ListUtils.map(componentsMapping.getEntries(),
+                                    e -> e == schemas ? added.withPrefix(e.getPrefix()) : e));
+                }
+                return root.withEntries(ListUtils.map(root.getEntries(), e -> e == components ? e.withValue(migratedComponents) : e));
+            }
+
+            private String schemas(Map<String, Occurrence> hoisted, int column) {
+                StringBuilder text = new StringBuilder();
+                for (Map.Entry<String, Occurrence> schema : hoisted.entrySet()) {
+                    Occurrence occurrence = schema.getValue();
+                    text.append('\n').append(indent(column)).append(key(schema.getKey())).append(':');
+                    text.append('\n').append(print(occurrence.getSchema(), occurrence.getColumn(), column + 2));
+                }
+                return text.toString();
+            }
+        };
+    }
+
+    private enum Level {
+        ROOT, COMPONENTS, SCHEMAS, OTHER
+    }
+
+    @Value
+    private static class Occurrence {
+        Yaml.Mapping schema;
+
+        /**
+         * The column of the entries of the schema.
+         */
+        int column;
+    }
+
+    /**
+     * Finds the inline object schemas of a document, and in a second walk, replaces those with a duplicate by a {@code $ref}.
+     * Only the outermost inline schemas are compared, so a schema nested in a duplicated one is moved along with it.
+     */
+    private static class Deduplication {
+        final ExecutionContext ctx;
+
+        final Map<String, List<Occurrence>> occurrences = new LinkedHashMap<>();
+        final Map<String, String> componentNames = new HashMap<>();
+        final Map<String, String> names = new HashMap<>();
+        final Map<String, Occurrence> hoisted = new LinkedHashMap<>();
+
+        boolean replace;
+        int replaced;
+
+        Deduplication(ExecutionContext ctx) {
+            this.ctx = ctx;
+        }
+
+        /**
+         * Names the schemas to refer to, keyed by their canonical form, and returns whether there are any.
+         */
+        boolean assignNames() {
+            Set<String> used = new HashSet<>(componentNames.values());
+            int generated = 0;
+            for (Map.Entry<String, List<Occurrence>> schema : occurrences.entrySet()) {
+                String canonical = schema.getKey();
+                String existing = componentNames.get(canonical);
+                if (existing != null) {
+                    names.put(canonical, existing);
+                } else if (schema.getValue().size() > 1) {
+                    Occurrence first = schema.getValue().get(0);
+                    String name = scalar(first.getSchema(), "title");
+                    if (name == null || !COMPONENT_NAME.matcher(name).matches() || used.contains(name)) {
+                        do {
+                            name = "InlineSchema" + ++generated;
+                        } while (used.contains(name));
+                    }
+                    used.add(name);
+                    names.put(canonical, name);
+                    hoisted.put(name, first);
+                }
+            }
+            return !names.isEmpty();
+        }
+
+        Yaml.Mapping walk(Yaml.Mapping mapping, int column, Level level) {
+            return mapping.withEntries(ListUtils.map(mapping.getEntries(), entry -> {
+                String key = entry.getKey().getValue();
+                if ("example".equals(key) || "examples".equals(key) || key.startsWith("x-")) {
+                    return entry;
+                }
+                Level next = level == Level.ROOT && "components".equals(key) ? Level.COMPONENTS :
+                        level == Level.COMPONENTS && "schemas".equals(key) ? Level.SCHEMAS : Level.OTHER;
+                if (entry.getValue() instanceof Yaml.Sequence) {
+                    return entry.withValue(walk((Yaml.Sequence) entry.getValue()));
+                }
+                if (!(entry.getValue() instanceof Yaml.Mapping) || !isBlock((Yaml.Mapping) entry.getValue())) {
+                    return entry;
+                }
+                Yaml.Mapping value = (Yaml.Mapping) entry.getValue();
+                int valueColumn = column(value, column + 2);
+                if (level == Level.SCHEMAS) {
+                    componentNames.putIfAbsent(canonical(value), key);
+                    return entry.withValue(walk(value, valueColumn, Level.OTHER));
+                }
+                return entry.withValue(schema(value, valueColumn, next));
+            }));
+        }
+
+        private Yaml.Sequence walk(Yaml.Sequence sequence) {
+            return sequence.withEntries(ListUtils.map(sequence.getEntries(), entry ->
+                    entry.getBlock() instanceof Yaml.Mapping && isBlock((Yaml.Mapping) entry.getBlock()) ?
+                            entry.withBlock(schema((Yaml.Mapping) entry.getBlock(), column(entry, (Yaml.Mapping) entry.getBlock()), Level.OTHER)) :
+                            entry));
+        }
+
+        private Yaml.Mapping schema(Yaml.Mapping mapping, int column, Level level) {
+            if (level != Level.OTHER || !isInlineObjectSchema(mapping)) {
+                return walk(mapping, column, level);
+            }
+            String canonical = canonical(mapping);
+            if (!replace) {
+                occurrences.computeIfAbsent(canonical, c -> new ArrayList<>()).add(new Occurrence(mapping, column));
+                return mapping;
+            }
+            String name = names.get(canonical);
+            if (name == null) {
+                return mapping;
+            }
+            replaced++;
+            Yaml.Mapping.Entry ref = parseEntries(indent(column) + "$ref: \"#/components/schemas/" + name + "\"", column, ctx).get(0);
+            return mapping.withEntries(Collections.singletonList(ref.withPrefix(mapping.getEntries().get(0).getPrefix())));
+        }
+    }
+
+    private static boolean isInlineObjectSchema(Yaml.Mapping mapping) {
+        Yaml.Mapping.Entry properties = entry(mapping, "properties");
+        return "object".equals(scalar(mapping, "type")) && properties != null &&
+               properties.getValue() instanceof Yaml.Mapping && !((Yaml.Mapping) properties.getValue()).getEntries().isEmpty();
+    }
+
+    /**
+     * A form of a schema which is the same for structurally identical schemas, whatever their formatting, comments,
+     * quoting or the order of their keys and of their {@code required} properties.
+     */
+    static String canonical(Yaml.Block block) {
+        StringBuilder canonical = new StringBuilder();
+        canonical(block, null, canonical);
+        return canonical.toString();
+    }
+
+    private static void canonical(Yaml.Block block, @Nullable String key, StringBuilder canonical) {
+        if (block instanceof Yaml.Mapping) {
+            Map<String, Yaml.Block> entries = new TreeMap<>();
+            for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) block).getEntries()) {
+                entries.put(entry.getKey().getValue(), entry.getValue());
+            }
+            canonical.append('{');
+            for (Map.Entry<String, Yaml.Block> entry : entries.entrySet()) {
+                quote(entry.getKey(), canonical);
+                canonical.append(':');
+                canonical(entry.getValue(), entry.getKey(), canonical);
+                canonical.append(',');
+            }
+            canonical.append('}');
+        } else if (block instanceof Yaml.Sequence) {
+            List<String> values = new ArrayList<>();
+            for (Yaml.Sequence.Entry entry : ((Yaml.Sequence) block).getEntries()) {
+                values.add(canonical(entry.getBlock()));
+            }
+            if ("required".equals(key)) {
+                Collections.sort(values);
+            }
+            canonical.append('[').append(String.join(",", values)).append(']');
+        } else if (block instanceof Yaml.Scalar) {
+            Yaml.Scalar scalar = (Yaml.Scalar) block;
+            // A plain `1` is a number, a quoted `"1"` a string
+            canonical.append(scalar.getStyle() == Yaml.Scalar.Style.PLAIN ? 'p' : 'q');
+            quote(scalar.getValue(), canonical);
+        } else {
+            quote(print(block).trim(), canonical);
+        }
+    }
+
+    private static void quote(String value, StringBuilder canonical) {
+        canonical.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+    }
+}
@@ -0,0 +1,1135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.openapi.table.ConflictingOperations;
+import org.openrewrite.yaml.YamlParser;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.openapi.spec.JavaSchemas.indent;
+import static org.openrewrite.openapi.spec.JavaSchemas.named;
+import static org.openrewrite.openapi.spec.JavaSchemas.schema;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.OPERATIONS;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.key;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GenerateOpenApiDocument extends ScanningRecipe<GenerateOpenApiDocument.Accumulator> {
+
+    private static final String OAS = "io.swagger.v3.oas.annotations.";
+    private static final String SPRING_WEB = "org.springframework.web.bind.annotation.";
+    private static final List<String> JAX_RS = Arrays.asList("javax.ws.rs.", "jakarta.ws.rs.");
+    private static final List<String> DEFAULT_MEDIA_TYPES = singletonList("application/json");
+
+    /**
+     * Encloses the name of a string constant of the project in a path or media type, as the constants are only known
+     * once every source file is scanned.
+     */
+    private static final char CONSTANT = '\u0000';
+
+    /**
+     * Encloses a media type which refers to constants of the project in a line of an operation, where it is a key.
+     */
+    private static final char DEFERRED_KEY = '\u0001';
+
+    /**
+     * The values of the media type constants of Spring's {@code MediaType}, without their {@code _VALUE} suffix,
+     * and of JAX-RS's {@code MediaType}.
+     */
+    private static final Map<String, String> MEDIA_TYPES = new HashMap<>();
+
+    static {
+        MEDIA_TYPES.put("ALL", "*/*");
+        MEDIA_TYPES.put("WILDCARD", "*/*");
+        MEDIA_TYPES.put("APPLICATION_ATOM_XML", "application/atom+xml");
+        MEDIA_TYPES.put("APPLICATION_CBOR", "application/cbor");
+        MEDIA_TYPES.put("APPLICATION_FORM_URLENCODED", "application/x-www-form-urlencoded");
+        MEDIA_TYPES.put("APPLICATION_GRAPHQL", "application/graphql+json");
+        MEDIA_TYPES.put("APPLICATION_GRAPHQL_RESPONSE", "application/graphql-response+json");
+        MEDIA_TYPES.put("APPLICATION_JSON", "application/json");
+        MEDIA_TYPES.put("APPLICATION_JSON_UTF8", "application/json;charset=UTF-8");
+        MEDIA_TYPES.put("APPLICATION_JSON_PATCH_JSON", "application/json-patch+json");
+        MEDIA_TYPES.put("APPLICATION_NDJSON", "application/x-ndjson");
+        MEDIA_TYPES.put("APPLICATION_OCTET_STREAM", "application/octet-stream");
+        MEDIA_TYPES.put("APPLICATION_PDF", "application/pdf");
+        MEDIA_TYPES.put("APPLICATION_PROBLEM_JSON", "application/problem+json");
+        MEDIA_TYPES.put("APPLICATION_PROBLEM_JSON_UTF8", "application/problem+json;charset=UTF-8");
+        MEDIA_TYPES.put("APPLICATION_PROBLEM_XML", "application/problem+xml");
+        MEDIA_TYPES.put("APPLICATION_PROTOBUF", "application/x-protobuf");
+        MEDIA_TYPES.put("APPLICATION_RSS_XML", "application/rss+xml");
+        MEDIA_TYPES.put("APPLICATION_STREAM_JSON", "application/stream+json");
+        MEDIA_TYPES.put("APPLICATION_SVG_XML", "application/svg+xml");
+        MEDIA_TYPES.put("APPLICATION_XHTML_XML", "application/xhtml+xml");
+        MEDIA_TYPES.put("APPLICATION_XML", "application/xml");
+        MEDIA_TYPES.put("APPLICATION_YAML", "application/yaml");
+        MEDIA_TYPES.put("IMAGE_GIF", "image/gif");
+        MEDIA_TYPES.put("IMAGE_JPEG", "image/jpeg");
+        MEDIA_TYPES.put("IMAGE_PNG", "image/png");
+        MEDIA_TYPES.put("MULTIPART_FORM_DATA", "multipart/form-data");
+        MEDIA_TYPES.put("MULTIPART_MIXED", "multipart/mixed");
+        MEDIA_TYPES.put("MULTIPART_RELATED", "multipart/related");
+        MEDIA_TYPES.put("SERVER_SENT_EVENTS", "text/event-stream");
+        MEDIA_TYPES.put("TEXT_EVENT_STREAM", "text/event-stream");
+        MEDIA_TYPES.put("TEXT_HTML", "text/html");
+        MEDIA_TYPES.put("TEXT_MARKDOWN", "text/markdown");
+        MEDIA_TYPES.put("TEXT_PLAIN", "text/plain");
+        MEDIA_TYPES.put("TEXT_XML", "text/xml");
+    }
+
+    @Option(displayName = "Path",
+            description = "The path of the generated document, relative to the directory of each module.",
+            example = "src/main/resources/static/openapi.yaml",
+            required = false)
+    @Nullable
+    String path;
+
+    transient ConflictingOperations conflictingOperations = new ConflictingOperations(this);
+
+    String displayName = "Generate an OpenAPI document from annotated controllers";
+
+    String description = "Generates an OpenAPI 3 `openapi.yaml` document for each module, from the JAX-RS resources and " +
+            "Spring MVC controllers of its main sources and their OpenAPI annotations (`@OpenAPIDefinition`, `@Tag`, " +
+            "`@Operation`, `@Parameter`, `@ApiResponse`, `@Content` and `@Schema`), so that the document can be served " +
+            "as a static file instead of being built by scanning the controllers when the application starts. " +
+            "The classes of request and response bodies are added to `components/schemas`. " +
+            "Paths and media types may be string constants of the project. Controllers and operations with a path " +
+            "or media type that cannot be resolved are left out. Duplicate operation ids are suffixed with `_1`, `_2` " +
+            "and so on, like springdoc does, and operations mapped to the same path and HTTP method as another one are " +
+            "reported in the `ConflictingOperations` data table instead. Schemas of classes which have the same name " +
+            "are named after their fully qualified name. A document which already exists is left unchanged.";
+
+    public static class Accumulator {
+        final Map<String, ModuleDocument> modules = new TreeMap<>();
+        final Set<String> existing = new HashSet<>();
+
+        /**
+         * The values of the string constants of the project, by the fully qualified name of their type and their
+         * name, as in {@code com.example.ApiPaths.PETS}. A value may refer to other constants.
+         */
+        final Map<String, String> constants = new HashMap<>();
+
+        ModuleDocument module(String directory) {
+            return modules.computeIfAbsent(directory, d -> new ModuleDocument());
+        }
+    }
+
+    static class ModuleDocument {
+        @Nullable String title;
+        @Nullable String version;
+        @Nullable String description;
+        final List<String> servers = new ArrayList<>();
+        final Map<String, String> tags = new TreeMap<>();
+        final List<Operation> operations = new ArrayList<>();
+
+        /**
+         * The schemas of the classes of the module which may be request or response bodies, by fully qualified name.
+         */
+        final Map<String, ClassSchema> schemas = new HashMap<>();
+    }
+
+    /**
+     * An operation, whose path and media types may refer to constants of the project.
+     */
+    @Value
+    static class Operation {
+        String sourcePath;
+        String method;
+        String path;
+        List<String> httpMethods;
+        String operationId;
+
+        /**
+         * The lines of the operation before its {@code operationId}, and after it.
+         */
+        List<String> header;
+        List<String> lines;
+
+        /**
+         * The fully qualified names of the classes the operation refers to.
+         */
+        Set<String> refs;
+    }
+
+    @Value
+    static class ClassSchema {
+        List<String> lines;
+        Set<String> refs;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        JavaIsoVisitor<ExecutionContext> javaScanner = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                Path sourcePath = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getSourcePath();
+                String directory = moduleDirectory(sourcePath);
+                if (directory != null) {
+                    scan(classDecl, separatorsToUnix(sourcePath), acc.module(directory));
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                // Fields of interfaces are implicitly static and final
+                J.ClassDeclaration owner = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                boolean constant = multiVariable.hasModifier(J.Modifier.Type.Static) && multiVariable.hasModifier(J.Modifier.Type.Final) ||
+                                   owner != null && owner.getKind() == J.ClassDeclaration.Kind.Type.Interface;
+                if (constant && TypeUtils.isString(multiVariable.getType())) {
+                    for (J.VariableDeclarations.NamedVariable variable : multiVariable.getVariables()) {
+                        JavaType.Variable type = variable.getVariableType();
+                        String value = template(variable.getInitializer());
+                        if (value != null && type != null && type.getOwner() instanceof JavaType.FullyQualified) {
+                            acc.constants.put(((JavaType.FullyQualified) type.getOwner()).getFullyQualifiedName() + "." +
+                                              variable.getSimpleName(), value);
+                        }
+                    }
+                }
+                return multiVariable;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                // Operations and schemas are read from declarations only
+                return method;
+            }
+        };
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    acc.existing.add(separatorsToUnix(((SourceFile) tree).getSourcePath()));
+                }
+                if (tree instanceof J.CompilationUnit) {
+                    return javaScanner.visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        for (Map.Entry<String, ModuleDocument> module : acc.modules.entrySet()) {
+            if (module.getValue().operations.isEmpty()) {
+                continue;
+            }
+            Path documentPath = Paths.get(module.getKey()).resolve(path == null ? "src/main/resources/openapi.yaml" : path);
+            if (acc.existing.contains(separatorsToUnix(documentPath))) {
+                continue;
+            }
+            Set<String> refs = new TreeSet<>();
+            Map<String, Map<String, List<String>>> paths = paths(module.getValue(), acc, refs, ctx);
+            if (paths.isEmpty()) {
+                continue;
+            }
+            String document = document(module.getValue(), paths, refs, acc);
+            new YamlParser().parse(ctx, document)
+                    .map(sourceFile -> (SourceFile) sourceFile.withSourcePath(documentPath))
+                    .forEach(generated::add);
+        }
+        return generated;
+    }
+
+    private static @Nullable String moduleDirectory(Path sourcePath) {
+        String path = separatorsToUnix(sourcePath);
+        if (path.startsWith("src/main/")) {
+            return "";
+        }
+        int main = path.indexOf("/src/main/");
+        return main < 0 ? null : path.substring(0, main);
+    }
+
+    private static String separatorsToUnix(Path path) {
+        return path.toString().replace('\\', '/');
+    }
+
+    /**
+     * The value of a string literal, of a constant, or of a concatenation of them. The constants of the project are
+     * referred to by their name between two {@link #CONSTANT} characters, and resolved with {@link #resolve}.
+     */
+    private static @Nullable String template(@Nullable Expression expression) {
+        if (expression instanceof J.Literal) {
+            Object value = ((J.Literal) expression).getValue();
+            return value instanceof String ? (String) value : null;
+        } else if (expression instanceof J.Parentheses) {
+            J tree = ((J.Parentheses<?>) expression).getTree();
+            return tree instanceof Expression ? template((Expression) tree) : null;
+        } else if (expression instanceof J.Binary) {
+            J.Binary binary = (J.Binary) expression;
+            if (binary.getOperator() != J.Binary.Type.Addition) {
+                return null;
+            }
+            String left = template(binary.getLeft());
+            String right = left == null ? null : template(binary.getRight());
+            return right == null ? null : left + right;
+        }
+        JavaType.Variable field = expression instanceof J.Identifier ? ((J.Identifier) expression).getFieldType() :
+                expression instanceof J.FieldAccess ? ((J.FieldAccess) expression).getName().getFieldType() : null;
+        if (field == null || !(field.getOwner() instanceof JavaType.FullyQualified)) {
+            return null;
+        }
+        Object library = constantValue(field);
+        if (library instanceof String) {
+            return (String) library;
+        }
+        return CONSTANT + ((JavaType.FullyQualified) field.getOwner()).getFullyQualifiedName() + "." + field.getName() + CONSTANT;
+    }
+
+    /**
+     * The value of a template, or {@code null} if it refers to a constant which is not a string constant of the project.
+     */
+    private static @Nullable String resolve(String template, Map<String, String> constants, Set<String> seen) {
+        StringBuilder resolved = new StringBuilder();
+        int from = 0;
+        for (int start = template.indexOf(CONSTANT); start >= 0; start = template.indexOf(CONSTANT, from)) {
+            int end = template.indexOf(CONSTANT, start + 1);
+            String name = template.substring(start + 1, end);
+            String value = constants.get(name);
+            // A constant which refers to itself does not compile, but is not resolved forever either
+            if (value == null || !seen.add(name)) {
+                return null;
+            }
+            value = resolve(value, constants, seen);
+            seen.remove(name);
+            if (value == null) {
+                return null;
+            }
+            resolved.append(template, from, start).append(value);
+            from = end + 1;
+        }
+        return resolved.append(template.substring(from)).toString();
+    }
+
+    /**
+     * The lines of an operation, with the media types which refer to constants of the project resolved, or
+     * {@code null} if one of them cannot be resolved.
+     */
+    private static @Nullable List<String> resolveKeys(List<String> lines, Map<String, String> constants) {
+        List<String> resolved = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            int start = line.indexOf(DEFERRED_KEY);
+            if (start >= 0) {
+                int end = line.indexOf(DEFERRED_KEY, start + 1);
+                String value = resolve(line.substring(start + 1, end), constants, new HashSet<>());
+                if (value == null) {
+                    return null;
+                }
+                line = line.substring(0, start) + key(value) + line.substring(end + 1);
+            }
+            resolved.add(line);
+        }
+        return resolved;
+    }
+
+    /**
+     * The operations of a module by path and HTTP method. Their operation ids are made unique as springdoc does, by
+     * suffixing them with {@code _1}, {@code _2} and so on, and an operation which is mapped to the same path and HTTP
+     * method as another one is reported instead of being added.
+     */
+    private Map<String, Map<String, List<String>>> paths(ModuleDocument module, Accumulator acc, Set<String> refs,
+                                                         ExecutionContext ctx) {
+        Map<String, Map<String, List<String>>> paths = new TreeMap<>();
+        Set<String> operationIds = new HashSet<>();
+        for (Operation operation : module.operations) {
+            String resolvedPath = resolve(operation.getPath(), acc.constants, new HashSet<>());
+            List<String> lines = resolveKeys(operation.getLines(), acc.constants);
+            if (resolvedPath == null || lines == null) {
+                continue;
+            }
+            // A constant may have slashes or a JAX-RS path template of its own
+            String operationPath = path(resolvedPath, null);
+            Map<String, List<String>> pathItem = paths.computeIfAbsent(operationPath, p -> new TreeMap<>(
+                    Comparator.comparingInt(OPERATIONS::indexOf)));
+            for (String httpMethod : operation.getHttpMethods()) {
+                if (pathItem.containsKey(httpMethod)) {
+                    conflictingOperations.insertRow(ctx, new ConflictingOperations.Row(operation.getSourcePath(),
+                            operation.getMethod(), httpMethod.toUpperCase(), operationPath));
+                    continue;
+                }
+                String operationId = operation.getOperationId();
+                for (int i = 1; !operationIds.add(operationId); i++) {
+                    operationId = operation.getOperationId() + "_" + i;
+                }
+                List<String> item = new ArrayList<>(operation.getHeader());
+                item.add("operationId: " + text(operationId));
+                item.addAll(lines);
+                pathItem.put(httpMethod, item);
+                refs.addAll(operation.getRefs());
+            }
+        }
+        paths.values().removeIf(Map::isEmpty);
+        return paths;
+    }
+
+    private static void scan(J.ClassDeclaration classDecl, String sourcePath, ModuleDocument module) {
+        List<J.Annotation> annotations = classDecl.getLeadingAnnotations();
+        J.Annotation definition = annotation(annotations, OAS + "OpenAPIDefinition");
+        if (definition != null) {
+            definition(definition, module);
+        }
+        J.Annotation applicationPath = annotation(annotations, "ApplicationPath", JAX_RS);
+        String root = applicationPath == null ? null : string(attribute(applicationPath, "value"));
+        if (root != null && module.servers.isEmpty()) {
+            module.servers.add("- url: " + text(path(root, "")));
+        }
+
+        if (classDecl.getType() != null && isModel(classDecl)) {
+            Set<String> refs = new HashSet<>();
+            module.schemas.put(classDecl.getType().getFullyQualifiedName(), new ClassSchema(classSchema(classDecl, refs), refs));
+        }
+
+        if (annotation(annotations, OAS + "Hidden") != null) {
+            return;
+        }
+        String basePath = "";
+        J.Annotation mapping = annotation(annotations, "Path", JAX_RS);
+        Expression pathAttribute = null;
+        if (mapping == null) {
+            mapping = annotation(annotations, SPRING_WEB + "RequestMapping");
+            if (mapping != null) {
+                pathAttribute = attribute(mapping, "path") != null ? attribute(mapping, "path") : attribute(mapping, "value");
+            }
+        } else {
+            pathAttribute = attribute(mapping, "value");
+        }
+        if (!isResolved(pathAttribute)) {
+            // A constant of a library, or an expression which is not a constant
+            return;
+        }
+        if (pathAttribute != null) {
+            basePath = firstTemplate(pathAttribute);
+        }
+        List<String> tags = new ArrayList<>();
+        for (J.Annotation tag : repeated(annotations, OAS + "tags.Tag", OAS + "tags.Tags")) {
+            String name = string(attribute(tag, "name"));
+            if (name != null) {
+                tags.add(name);
+                String description = string(attribute(tag, "description"));
+                if (description != null || !module.tags.containsKey(name)) {
+                    module.tags.put(name, description);
+                }
+            }
+        }
+        List<String> produces = mediaTypes(annotations, "Produces", mapping, "produces", DEFAULT_MEDIA_TYPES);
+        List<String> consumes = mediaTypes(annotations, "Consumes", mapping, "consumes", DEFAULT_MEDIA_TYPES);
+
+        if (classDecl.getBody() == null) {
+            return;
+        }
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration) {
+                operation((J.MethodDeclaration) statement, sourcePath, basePath == null ? "" : basePath, tags, produces,
+                        consumes, module);
+            }
+        }
+    }
+
+    private static void definition(J.Annotation definition, ModuleDocument module) {
+        J.Annotation info = first(annotations(attribute(definition, "info")));
+        if (info != null) {
+            module.title = string(attribute(info, "title"));
+            module.version = string(attribute(info, "version"));
+            module.description = string(attribute(info, "description"));
+        }
+        List<J.Annotation> servers = annotations(attribute(definition, "servers"));
+        if (!servers.isEmpty()) {
+            module.servers.clear();
+        }
+        for (J.Annotation server : servers) {
+            String url = string(attribute(server, "url"));
+            if (url != null) {
+                module.servers.add("- url: " + text(url));
+                String description = string(attribute(server, "description"));
+                if (description != null) {
+                    module.servers.add("  description: " + text(description));
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether a class may be the body of a request or a response, so that its schema is kept until the classes the
+     * operations refer to are known. Classes without fields and a {@code @Schema}, which are written as an object,
+     * and the beans of Spring's stereotypes, controllers and JAX-RS providers are not.
+     */
+    private static boolean isModel(J.ClassDeclaration classDecl) {
+        if (classDecl.getKind() == J.ClassDeclaration.Kind.Type.Enum) {
+            return true;
+        } else if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class && classDecl.getKind() != J.ClassDeclaration.Kind.Type.Record) {
+            return false;
+        }
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            String fqn = fullyQualifiedName(annotation);
+            if (fqn != null && (fqn.startsWith(SPRING_WEB) || fqn.startsWith("org.springframework.stereotype.") ||
+                                fqn.equals("org.springframework.context.annotation.Configuration") || jaxRsName(fqn) != null)) {
+                return false;
+            }
+        }
+        if (annotation(classDecl.getLeadingAnnotations(), OAS + "media.Schema") != null ||
+            classDecl.getPrimaryConstructor() != null && !classDecl.getPrimaryConstructor().isEmpty()) {
+            return true;
+        }
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations && !((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> classSchema(J.ClassDeclaration classDecl, Set<String> refs) {
+        List<String> lines = new ArrayList<>();
+        J.Annotation schema = annotation(classDecl.getLeadingAnnotations(), OAS + "media.Schema");
+        String description = schema == null ? null : string(attribute(schema, "description"));
+
+        if (classDecl.getKind() == J.ClassDeclaration.Kind.Type.Enum) {
+            lines.add("type: string");
+            if (description != null) {
+                lines.add("description: " + text(description));
+            }
+            lines.add("enum:");
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (statement instanceof J.EnumValueSet) {
+                    for (J.EnumValue value : ((J.EnumValueSet) statement).getEnums()) {
+                        lines.add("  - " + text(value.getName().getSimpleName()));
+                    }
+                }
+            }
+            return lines;
+        }
+
+        lines.add("type: object");
+        if (description != null) {
+            lines.add("description: " + text(description));
+        }
+        List<String> properties = new ArrayList<>();
+        List<Statement> fields = new ArrayList<>();
+        if (classDecl.getPrimaryConstructor() != null) {
+            fields.addAll(classDecl.getPrimaryConstructor());
+        }
+        fields.addAll(classDecl.getBody().getStatements());
+        for (Statement statement : fields) {
+            if (!(statement instanceof J.VariableDeclarations) || ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                continue;
+            }
+            J.VariableDeclarations field = (J.VariableDeclarations) statement;
+            J.Annotation fieldSchema = annotation(field.getLeadingAnnotations(), OAS + "media.Schema");
+            if (fieldSchema != null && Boolean.TRUE.equals(bool(attribute(fieldSchema, "hidden")))) {
+                continue;
+            }
+            List<String> propertySchema = schema(field.getType(), refs);
+            String fieldDescription = fieldSchema == null ? null : string(attribute(fieldSchema, "description"));
+            for (J.VariableDeclarations.NamedVariable variable : field.getVariables()) {
+                properties.add(key(variable.getSimpleName()) + ":");
+                properties.addAll(indent(propertySchema == null ? singletonList("type: object") : propertySchema, 2));
+                if (fieldDescription != null) {
+                    properties.add("  description: " + text(fieldDescription));
+                }
+            }
+        }
+        if (!properties.isEmpty()) {
+            lines.add("properties:");
+            lines.addAll(indent(properties, 2));
+        }
+        return lines;
+    }
+
+    private static void operation(J.MethodDeclaration method, String sourcePath, String basePath, List<String> classTags,
+                                  List<String> classProduces, List<String> classConsumes, ModuleDocument module) {
+        List<J.Annotation> annotations = method.getLeadingAnnotations();
+        J.Annotation operation = annotation(annotations, OAS + "Operation");
+        if (annotation(annotations, OAS + "Hidden") != null ||
+            operation != null && Boolean.TRUE.equals(bool(attribute(operation, "hidden")))) {
+            return;
+        }
+
+        List<String> httpMethods = new ArrayList<>();
+        String methodPath = null;
+        Expression pathAttribute = null;
+        J.Annotation mapping = null;
+        boolean jaxRs = false;
+        for (J.Annotation annotation : annotations) {
+            String fqn = fullyQualifiedName(annotation);
+            String jaxRsName = fqn == null ? null : jaxRsName(fqn);
+            if (jaxRsName != null && OPERATIONS.contains(jaxRsName.toLowerCase())) {
+                httpMethods.add(jaxRsName.toLowerCase());
+                jaxRs = true;
+            } else if ("Path".equals(jaxRsName)) {
+                pathAttribute = attribute(annotation, "value");
+                methodPath = firstTemplate(pathAttribute);
+            } else if (fqn != null && fqn.startsWith(SPRING_WEB) && fqn.endsWith("Mapping")) {
+                String name = fqn.substring(SPRING_WEB.length(), fqn.length() - "Mapping".length()).toLowerCase();
+                if ("request".equals(name)) {
+                    for (Expression requestMethod : expressions(attribute(annotation, "method"))) {
+                        String simpleName = requestMethod instanceof J.FieldAccess ? ((J.FieldAccess) requestMethod).getSimpleName() :
+                                requestMethod instanceof J.Identifier ? ((J.Identifier) requestMethod).getSimpleName() : "";
+                        if (OPERATIONS.contains(simpleName.toLowerCase())) {
+                            httpMethods.add(simpleName.toLowerCase());
+                        }
+                    }
+                } else if (OPERATIONS.contains(name)) {
+                    httpMethods.add(name);
+                }
+                mapping = annotation;
+                pathAttribute = attribute(annotation, "path") != null ? attribute(annotation, "path") : attribute(annotation, "value");
+                methodPath = firstTemplate(pathAttribute);
+            }
+        }
+        if (httpMethods.isEmpty() || !isResolved(pathAttribute)) {
+            return;
+        }
+
+        List<String> produces = mediaTypes(annotations, "Produces", mapping, "produces", classProduces);
+        List<String> consumes = mediaTypes(annotations, "Consumes", mapping, "consumes", classConsumes);
+        Set<String> tags = new LinkedHashSet<>(classTags);
+        List<String> header = new ArrayList<>();
+        if (operation != null) {
+            tags.addAll(strings(attribute(operation, "tags")));
+        }
+        if (!tags.isEmpty()) {
+            header.add("tags:");
+            for (String tag : tags) {
+                header.add("  - " + text(tag));
+                if (!module.tags.containsKey(tag)) {
+                    module.tags.put(tag, null);
+                }
+            }
+        }
+        String operationId = method.getSimpleName();
+        if (operation != null) {
+            for (String attribute : Arrays.asList("summary", "description")) {
+                String value = string(attribute(operation, attribute));
+                if (value != null && !value.isEmpty()) {
+                    header.add(attribute + ": " + text(value));
+                }
+            }
+            String id = string(attribute(operation, "operationId"));
+            if (id != null && !id.isEmpty()) {
+                operationId = id;
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        Set<String> refs = new HashSet<>();
+        List<String> parameters = new ArrayList<>();
+        List<String> requestBody = new ArrayList<>();
+        for (Statement statement : method.getParameters()) {
+            if (statement instanceof J.VariableDeclarations) {
+                parameter((J.VariableDeclarations) statement, jaxRs, consumes, parameters, requestBody, refs);
+            }
+        }
+        if (!parameters.isEmpty()) {
+            lines.add("parameters:");
+            lines.addAll(indent(parameters, 2));
+        }
+        lines.addAll(requestBody);
+        lines.add("responses:");
+        lines.addAll(indent(responses(method, operation, produces, refs), 2));
+        if (annotation(annotations, "java.lang.Deprecated") != null ||
+            operation != null && Boolean.TRUE.equals(bool(attribute(operation, "deprecated")))) {
+            lines.add("deprecated: true");
+        }
+        module.operations.add(new Operation(sourcePath, method.getSimpleName(), path(basePath, methodPath), httpMethods,
+                operationId, header, lines, refs));
+    }
+
+    private static void parameter(J.VariableDeclarations parameter, boolean jaxRs, List<String> consumes,
+                                  List<String> parameters, List<String> requestBody, Set<String> refs) {
+        List<J.Annotation> annotations = parameter.getLeadingAnnotations();
+        J.Annotation openApiParameter = annotation(annotations, OAS + "Parameter");
+        if (openApiParameter != null && Boolean.TRUE.equals(bool(attribute(openApiParameter, "hidden")))) {
+            return;
+        }
+        String variableName = parameter.getVariables().get(0).getSimpleName();
+        String in = null;
+        String name = null;
+        Boolean required = null;
+        boolean body = jaxRs;
+        for (J.Annotation annotation : annotations) {
+            String fqn = fullyQualifiedName(annotation);
+            if (fqn == null) {
+                continue;
+            }
+            String jaxRsName = jaxRsName(fqn);
+            if (jaxRsName != null) {
+                body = false;
+                if (jaxRsName.endsWith("Param") && !"BeanParam".equals(jaxRsName) && !"FormParam".equals(jaxRsName) &&
+                    !"MatrixParam".equals(jaxRsName)) {
+                    in = jaxRsName.substring(0, jaxRsName.length() - "Param".length()).toLowerCase();
+                    name = string(attribute(annotation, "value"));
+                }
+            } else if (fqn.startsWith(SPRING_WEB)) {
+                String simpleName = fqn.substring(SPRING_WEB.length());
+                if ("RequestBody".equals(simpleName)) {
+                    body = true;
+                    required = bool(attribute(annotation, "required"));
+                    continue;
+                }
+                in = "PathVariable".equals(simpleName) ? "path" :
+                        "RequestParam".equals(simpleName) ? "query" :
+                        "RequestHeader".equals(simpleName) ? "header" :
+                        "CookieValue".equals(simpleName) ? "cookie" : null;
+                if (in != null) {
+                    name = attribute(annotation, "name") != null ?
+                            string(attribute(annotation, "name")) :
+                            string(attribute(annotation, "value"));
+                    required = attribute(annotation, "defaultValue") != null ? Boolean.FALSE : bool(attribute(annotation, "required"));
+                    if (required == null) {
+                        required = true;
+                    }
+                }
+            }
+        }
+
+        String description = openApiParameter == null ? null : string(attribute(openApiParameter, "description"));
+        if (openApiParameter != null && bool(attribute(openApiParameter, "required")) != null) {
+            required = bool(attribute(openApiParameter, "required"));
+        }
+        List<String> schema = schema(parameter.getType(), refs);
+        if (schema == null) {
+            return;
+        }
+        if (in != null) {
+            parameters.add("- name: " + text(name == null || name.isEmpty() ? variableName : name));
+            parameters.add("  in: " + in);
+            if (description != null && !description.isEmpty()) {
+                parameters.add("  description: " + text(description));
+            }
+            if ("path".equals(in) || Boolean.TRUE.equals(required)) {
+                parameters.add("  required: true");
+            }
+            parameters.add("  schema:");
+            parameters.addAll(indent(schema, 4));
+        } else if (body && requestBody.isEmpty()) {
+            requestBody.add("requestBody:");
+            if (description != null && !description.isEmpty()) {
+                requestBody.add("  description: " + text(description));
+            }
+            requestBody.add("  content:");
+            for (String mediaType : consumes) {
+                requestBody.add("    " + mediaTypeKey(mediaType) + ":");
+                requestBody.add("      schema:");
+                requestBody.addAll(indent(schema, 8));
+            }
+            if (required == null || required) {
+                requestBody.add("  required: true");
+            }
+        }
+    }
+
+    private static List<String> responses(J.MethodDeclaration method, J.@Nullable Annotation operation,
+                                          List<String> produces, Set<String> refs) {
+        List<J.Annotation> apiResponses = new ArrayList<>(repeated(method.getLeadingAnnotations(),
+                OAS + "responses.ApiResponse", OAS + "responses.ApiResponses"));
+        if (operation != null) {
+            apiResponses.addAll(annotations(attribute(operation, "responses")));
+        }
+        JavaType returnType = method.getMethodType() == null ? null : method.getMethodType().getReturnType();
+
+        Map<String, List<String>> responses = new TreeMap<>();
+        for (J.Annotation apiResponse : apiResponses) {
+            String code = string(attribute(apiResponse, "responseCode"));
+            code = code == null || code.isEmpty() ? "default" : code;
+            List<String> lines = new ArrayList<>();
+            String description = string(attribute(apiResponse, "description"));
+            lines.add("description: " + text(description == null ? "" : description));
+            List<J.Annotation> contents = annotations(attribute(apiResponse, "content"));
+            if (!contents.isEmpty()) {
+                List<String> content = new ArrayList<>();
+                for (J.Annotation c : contents) {
+                    String mediaType = firstTemplate(attribute(c, "mediaType"));
+                    List<String> schema = contentSchema(c, refs);
+                    for (String m : mediaType == null || mediaType.isEmpty() ? produces : singletonList(mediaType)) {
+                        content.add(mediaTypeKey(m) + ":");
+                        if (schema != null) {
+                            content.add("  schema:");
+                            content.addAll(indent(schema, 4));
+                        }
+                    }
+                }
+                lines.add("content:");
+                lines.addAll(indent(content, 2));
+            } else if (code.startsWith("2")) {
+                lines.addAll(content(returnType, produces, refs));
+            }
+            responses.putIfAbsent(code, lines);
+        }
+        if (responses.isEmpty()) {
+            List<String> lines = new ArrayList<>();
+            lines.add("description: " + text("OK"));
+            lines.addAll(content(returnType, produces, refs));
+            responses.put("200", lines);
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, List<String>> response : responses.entrySet()) {
+            lines.add("'" + response.getKey() + "':");
+            lines.addAll(indent(response.getValue(), 2));
+        }
+        return lines;
+    }
+
+    private static List<String> content(@Nullable JavaType type, List<String> produces, Set<String> refs) {
+        List<String> schema = schema(type, refs);
+        if (schema == null) {
+            return emptyList();
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("content:");
+        for (String mediaType : produces) {
+            lines.add("  " + mediaTypeKey(mediaType) + ":");
+            lines.add("    schema:");
+            lines.addAll(indent(schema, 6));
+        }
+        return lines;
+    }
+
+    /**
+     * The schema of a {@code @Content}, from the {@code implementation} of its {@code @Schema} or {@code @ArraySchema}.
+     */
+    private static @Nullable List<String> contentSchema(J.Annotation content, Set<String> refs) {
+        J.Annotation schema = first(annotations(attribute(content, "schema")));
+        JavaType implementation = schema == null ? null : classLiteral(attribute(schema, "implementation"));
+        if (implementation != null) {
+            return schema(implementation, refs);
+        }
+        J.Annotation arraySchema = first(annotations(attribute(content, "array")));
+        J.Annotation items = arraySchema == null ? null : first(annotations(attribute(arraySchema, "schema")));
+        JavaType itemType = items == null ? null : classLiteral(attribute(items, "implementation"));
+        if (itemType != null) {
+            List<String> itemSchema = schema(itemType, refs);
+            List<String> lines = new ArrayList<>();
+            lines.add("type: array");
+            lines.add("items:");
+            lines.addAll(indent(itemSchema == null ? singletonList("type: object") : itemSchema, 2));
+            return lines;
+        }
+        return null;
+    }
+
+    private static String document(ModuleDocument module, Map<String, Map<String, List<String>>> paths, Set<String> refs,
+                                   Accumulator acc) {
+        Map<String, ClassSchema> schemas = referencedSchemas(module, refs, acc);
+        Map<String, String> names = JavaSchemas.names(schemas.keySet());
+
+        List<String> lines = new ArrayList<>();
+        lines.add("openapi: 3.0.1");
+        lines.add("info:");
+        lines.add("  title: " + text(module.title == null || module.title.isEmpty() ? "OpenAPI definition" : module.title));
+        if (module.description != null && !module.description.isEmpty()) {
+            lines.add("  description: " + text(module.description));
+        }
+        lines.add("  version: " + text(module.version == null || module.version.isEmpty() ? "v0" : module.version));
+        if (!module.servers.isEmpty()) {
+            lines.add("servers:");
+            lines.addAll(indent(module.servers, 2));
+        }
+        if (module.tags.values().stream().anyMatch(Objects::nonNull)) {
+            lines.add("tags:");
+            for (Map.Entry<String, String> tag : module.tags.entrySet()) {
+                lines.add("  - name: " + text(tag.getKey()));
+                if (tag.getValue() != null) {
+                    lines.add("    description: " + text(tag.getValue()));
+                }
+            }
+        }
+        lines.add("paths:");
+        for (Map.Entry<String, Map<String, List<String>>> pathItem : paths.entrySet()) {
+            lines.add("  " + key(pathItem.getKey()) + ":");
+            for (Map.Entry<String, List<String>> operation : pathItem.getValue().entrySet()) {
+                lines.add("    " + operation.getKey() + ":");
+                lines.addAll(indent(named(operation.getValue(), names), 6));
+            }
+        }
+
+        if (!schemas.isEmpty()) {
+            Map<String, ClassSchema> byName = new TreeMap<>();
+            for (Map.Entry<String, ClassSchema> schema : schemas.entrySet()) {
+                byName.put(names.get(schema.getKey()), schema.getValue());
+            }
+            lines.add("components:");
+            lines.add("  schemas:");
+            for (Map.Entry<String, ClassSchema> schema : byName.entrySet()) {
+                lines.add("    " + key(schema.getKey()) + ":");
+                lines.addAll(indent(named(schema.getValue().getLines(), names), 6));
+            }
+        }
+        return String.join("\n", lines) + "\n";
+    }
+
+    private static List<String> named(List<String> lines, Map<String, String> names) {
+        List<String> named = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            named.add(named(line, names));
+        }
+        return named;
+    }
+
+    /**
+     * The schemas of the classes the operations of a module refer to, directly or through other schemas, by fully
+     * qualified name.
+     */
+    private static Map<String, ClassSchema> referencedSchemas(ModuleDocument module, Set<String> refs, Accumulator acc) {
+        Deque<String> pending = new ArrayDeque<>(refs);
+        Map<String, ClassSchema> schemas = new HashMap<>();
+        while (!pending.isEmpty()) {
+            String fqn = pending.pop();
+            if (schemas.containsKey(fqn)) {
+                continue;
+            }
+            ClassSchema schema = module.schemas.get(fqn);
+            for (ModuleDocument other : acc.modules.values()) {
+                if (schema == null) {
+                    schema = other.schemas.get(fqn);
+                }
+            }
+            if (schema == null) {
+                // A class of a library, or of a module that is not part of the run
+                schema = new ClassSchema(singletonList("type: object"), emptySet());
+            }
+            schemas.put(fqn, schema);
+            pending.addAll(schema.getRefs());
+        }
+        return schemas;
+    }
+
+    private static String path(@Nullable String basePath, @Nullable String methodPath) {
+        String path = "/" + (basePath == null ? "" : basePath) + "/" + (methodPath == null ? "" : methodPath);
+        // JAX-RS path templates can have a regular expression, as in `{id: [0-9]+}`
+        path = path.replaceAll("\\{\\s*(\\w+)\\s*:[^}]*}", "{$1}").replaceAll("/+", "/");
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static List<String> mediaTypes(List<J.Annotation> annotations, String jaxRsName, J.@Nullable Annotation mapping,
+                                           String attribute, List<String> defaults) {
+        J.Annotation jaxRs = annotation(annotations, jaxRsName, JAX_RS);
+        List<String> mediaTypes = jaxRs != null ? templates(attribute(jaxRs, "value")) :
+                mapping != null ? templates(attribute(mapping, attribute)) : emptyList();
+        return mediaTypes.isEmpty() ? defaults : mediaTypes;
+    }
+
+    /**
+     * The key of a media type in the lines of an operation, which is written once the constants it refers to are
+     * resolved, if any.
+     */
+    private static String mediaTypeKey(String mediaType) {
+        return mediaType.indexOf(CONSTANT) < 0 ? key(mediaType) : DEFERRED_KEY + mediaType + DEFERRED_KEY;
+    }
+
+    /**
+     * The name of a JAX-RS annotation relative to its package, as in {@code GET} or {@code core.Context}.
+     */
+    private static @Nullable String jaxRsName(String fullyQualifiedName) {
+        for (String jaxRs : JAX_RS) {
+            if (fullyQualifiedName.startsWith(jaxRs)) {
+                return fullyQualifiedName.substring(jaxRs.length());
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable String fullyQualifiedName(J.Annotation annotation) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        return type == null ? null : type.getFullyQualifiedName();
+    }
+
+    private static J.@Nullable Annotation annotation(List<J.Annotation> annotations, String fullyQualifiedName) {
+        for (J.Annotation annotation : annotations) {
+            if (fullyQualifiedName.equals(fullyQualifiedName(annotation))) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static J.@Nullable Annotation annotation(List<J.Annotation> annotations, String name, List<String> packages) {
+        for (String p : packages) {
+            J.Annotation annotation = annotation(annotations, p + name);
+            if (annotation != null) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The annotations of a repeatable annotation type, whether repeated or in their container annotation.
+     */
+    private static List<J.Annotation> repeated(List<J.Annotation> annotations, String fullyQualifiedName, String container) {
+        List<J.Annotation> repeated = new ArrayList<>();
+        for (J.Annotation annotation : annotations) {
+            String fqn = fullyQualifiedName(annotation);
+            if (fullyQualifiedName.equals(fqn)) {
+                repeated.add(annotation);
+            } else if (container.equals(fqn)) {
+                repeated.addAll(annotations(attribute(annotation, "value")));
+            }
+        }
+        return repeated;
+    }
+
+    private static @Nullable Expression attribute(J.Annotation annotation, String name) {
+        if (annotation.getArguments() == null) {
+            return null;
+        }
+        for (Expression argument : annotation.getArguments()) {
+            if (argument instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) argument;
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    return assignment.getAssignment();
+                }
+            } else if ("value".equals(name) && !(argument instanceof J.Empty)) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    private static List<Expression> expressions(@Nullable Expression expression) {
+        if (expression instanceof J.NewArray) {
+            List<Expression> initializer = ((J.NewArray) expression).getInitializer();
+            return initializer == null ? emptyList() : initializer.stream()
+                    .filter(e -> !(e instanceof J.Empty))
+                    .collect(Collectors.toList());
+        }
+        return expression == null ? emptyList() : singletonList(expression);
+    }
+
+    private static List<J.Annotation> annotations(@Nullable Expression expression) {
+        List<J.Annotation> annotations = new ArrayList<>();
+        for (Expression e : expressions(expression)) {
+            if (e instanceof J.Annotation) {
+                annotations.add((J.Annotation) e);
+            }
+        }
+        return annotations;
+    }
+
+    private static J.@Nullable Annotation first(List<J.Annotation> annotations) {
+        return annotations.isEmpty() ? null : annotations.get(0);
+    }
+
+    /**
+     * The value of a string literal or constant, or of the first element of an array of them.
+     */
+    private static @Nullable String string(@Nullable Expression expression) {
+        List<String> strings = strings(expression);
+        return strings.isEmpty() ? null : strings.get(0);
+    }
+
+    /**
+     * Whether every element of an attribute value is a string literal, a constant, or a concatenation of them.
+     */
+    private static boolean isResolved(@Nullable Expression expression) {
+        return templates(expression).size() == expressions(expression).size();
+    }
+
+    private static List<String> templates(@Nullable Expression expression) {
+        List<String> templates = new ArrayList<>();
+        for (Expression e : expressions(expression)) {
+            String template = template(e);
+            if (template != null) {
+                templates.add(template);
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * The template of a string literal or constant, or of the first element of an array of them.
+     */
+    private static @Nullable String firstTemplate(@Nullable Expression expression) {
+        List<String> templates = templates(expression);
+        return templates.isEmpty() ? null : templates.get(0);
+    }
+
+    private static List<String> strings(@Nullable Expression expression) {
+        List<String> strings = new ArrayList<>();
+        for (Expression e : expressions(expression)) {
+            Object value = null;
+            if (e instanceof J.Literal) {
+                value = ((J.Literal) e).getValue();
+            } else if (e instanceof J.Identifier && ((J.Identifier) e).getFieldType() != null) {
+                value = constantValue(((J.Identifier) e).getFieldType());
+            } else if (e instanceof J.FieldAccess && ((J.FieldAccess) e).getName().getFieldType() != null) {
+                value = constantValue(((J.FieldAccess) e).getName().getFieldType());
+            }
+            if (value instanceof String) {
+                strings.add((String) value);
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * The value of a constant of a type on the classpath, such as {@code MediaType.APPLICATION_JSON}.
+     */
+    private static @Nullable Object constantValue(JavaType.@Nullable Variable variable) {
+        if (variable == null || !(variable.getOwner() instanceof JavaType.FullyQualified)) {
+            return null;
+        }
+        String owner = ((JavaType.FullyQualified) variable.getOwner()).getFullyQualifiedName();
+        if ("org.springframework.http.MediaType".equals(owner) && variable.getName().endsWith("_VALUE")) {
+            // Spring's `MediaType.APPLICATION_JSON_VALUE`
+            return MEDIA_TYPES.get(variable.getName().substring(0, variable.getName().length() - "_VALUE".length()));
+        }
+        if (owner.endsWith(".ws.rs.core.MediaType") && jaxRsName(owner) != null) {
+            // JAX-RS's `MediaType.APPLICATION_JSON`, and not `MediaType.APPLICATION_JSON_TYPE`
+            return MEDIA_TYPES.get(variable.getName());
+        }
+        return null;
+    }
+
+    private static @Nullable Boolean bool(@Nullable Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Boolean ?
+                (Boolean) ((J.Literal) expression).getValue() : null;
+    }
+
+    private static @Nullable JavaType classLiteral(@Nullable Expression expression) {
+        if (expression instanceof J.FieldAccess && "class".equals(((J.FieldAccess) expression).getSimpleName())) {
+            return ((J.FieldAccess) expression).getTarget().getType();
+        }
+        return null;
+    }
+
+    /**
+     * A double-quoted YAML scalar.
+     */
+    private static String text(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\t", "\\t") + '"';
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.*;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * The OpenAPI schemas of Java types, as lines of YAML at column zero. Classes other than the JDK's are referred to
+ * with a {@code $ref} to {@code components/schemas}, and their fully qualified names are collected. The references
+ * name the classes by their fully qualified name until their schemas are named with {@link #names(Collection)}.
+ */
+@UtilityClass
+class JavaSchemas {
+    private static final String REF = "$ref: '#/components/schemas/";
+    private static final Map<String, List<String>> SCALARS = new HashMap<>();
+
+    /**
+     * Types whose schema is the schema of their first type parameter.
+     */
+    private static final Set<String> WRAPPERS = new HashSet<>(Arrays.asList(
+            "java.util.Optional",
+            "java.util.concurrent.Callable",
+            "java.util.concurrent.CompletableFuture",
+            "java.util.concurrent.CompletionStage",
+            "org.springframework.http.HttpEntity",
+            "org.springframework.http.ResponseEntity",
+            "org.springframework.web.context.request.async.DeferredResult",
+            "reactor.core.publisher.Mono"));
+
+    private static final List<String> ARRAYS = Arrays.asList(
+            "java.lang.Iterable",
+            "java.util.stream.Stream",
+            "reactor.core.publisher.Flux");
+
+    static {
+        scalar("integer", "int32", "java.lang.Integer", "java.lang.Short", "java.lang.Byte");
+        scalar("integer", "int64", "java.lang.Long", "java.math.BigInteger");
+        scalar("number", "float", "java.lang.Float");
+        scalar("number", "double", "java.lang.Double");
+        scalar("number", null, "java.math.BigDecimal");
+        scalar("boolean", null, "java.lang.Boolean");
+        scalar("string", null, "java.lang.String", "java.lang.Character", "java.lang.CharSequence");
+        scalar("string", "date", "java.time.LocalDate");
+        scalar("string", "date-time", "java.time.Instant", "java.time.LocalDateTime", "java.time.OffsetDateTime",
+                "java.time.ZonedDateTime", "java.util.Date");
+        scalar("string", "uuid", "java.util.UUID");
+        scalar("string", "uri", "java.net.URI", "java.net.URL");
+    }
+
+    private static void scalar(String type, @Nullable String format, String... fullyQualifiedNames) {
+        List<String> schema = format == null ?
+                singletonList("type: " + type) :
+                Arrays.asList("type: " + type, "format: " + format);
+        for (String fullyQualifiedName : fullyQualifiedNames) {
+            SCALARS.put(fullyQualifiedName, schema);
+        }
+    }
+
+    /**
+     * The schema of a type, or {@code null} for {@code void}, which has no content.
+     */
+    static @Nullable List<String> schema(@Nullable JavaType type, Set<String> refs) {
+        if (type instanceof JavaType.Primitive) {
+            switch ((JavaType.Primitive) type) {
+                case Boolean:
+                    return SCALARS.get("java.lang.Boolean");
+                case Byte:
+                case Short:
+                case Int:
+                    return SCALARS.get("java.lang.Integer");
+                case Long:
+                    return SCALARS.get("java.lang.Long");
+                case Float:
+                    return SCALARS.get("java.lang.Float");
+                case Double:
+                    return SCALARS.get("java.lang.Double");
+                case Char:
+                case String:
+                    return SCALARS.get("java.lang.String");
+                case Void:
+                    return null;
+                default:
+                    return singletonList("type: object");
+            }
+        }
+        if (type instanceof JavaType.Array) {
+            JavaType elemType = ((JavaType.Array) type).getElemType();
+            if (elemType == JavaType.Primitive.Byte) {
+                return Arrays.asList("type: string", "format: byte");
+            }
+            return array(elemType, refs);
+        }
+
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        if (fq == null) {
+            return singletonList("type: object");
+        }
+        String fqn = fq.getFullyQualifiedName();
+        if ("java.lang.Void".equals(fqn)) {
+            return null;
+        }
+        if (SCALARS.containsKey(fqn)) {
+            return SCALARS.get(fqn);
+        }
+        if (WRAPPERS.contains(fqn)) {
+            return schema(typeParameter(type, 0), refs);
+        }
+        if (TypeUtils.isAssignableTo("java.util.Map", fq)) {
+            List<String> schema = new ArrayList<>();
+            schema.add("type: object");
+            List<String> values = schema(typeParameter(type, 1), refs);
+            if (values != null) {
+                schema.add("additionalProperties:");
+                schema.addAll(indent(values, 2));
+            }
+            return schema;
+        }
+        for (String array : ARRAYS) {
+            if (TypeUtils.isAssignableTo(array, fq)) {
+                return array(typeParameter(type, 0), refs);
+            }
+        }
+        if (fq.getKind() == JavaType.FullyQualified.Kind.Enum && fqn.startsWith("java.")) {
+            return SCALARS.get("java.lang.String");
+        }
+        if (fqn.startsWith("java.") || fqn.startsWith("javax.") || fqn.startsWith("jakarta.")) {
+            return singletonList("type: object");
+        }
+        refs.add(fqn);
+        return singletonList(REF + fqn + "'");
+    }
+
+    /**
+     * The names of the schemas of classes in {@code components/schemas}, by the fully qualified name of the classes.
+     * A schema is named after its class name, as in {@code Pet.Status}, unless several classes have the same class
+     * name, in which case their schemas are named after their fully qualified names.
+     */
+    static Map<String, String> names(Collection<String> fullyQualifiedNames) {
+        Map<String, Integer> classNames = new HashMap<>();
+        for (String fqn : fullyQualifiedNames) {
+            classNames.merge(className(fqn), 1, Integer::sum);
+        }
+        Map<String, String> names = new HashMap<>();
+        for (String fqn : fullyQualifiedNames) {
+            names.put(fqn, classNames.get(className(fqn)) > 1 ? fqn.replace('$', '.') : className(fqn));
+        }
+        return names;
+    }
+
+    /**
+     * A line of a schema, whose reference to a class, if any, refers to the name of the schema of that class.
+     */
+    static String named(String line, Map<String, String> names) {
+        int ref = line.indexOf(REF);
+        if (ref < 0) {
+            return line;
+        }
+        int start = ref + REF.length();
+        int end = line.indexOf('\'', start);
+        String name = names.get(line.substring(start, end));
+        return name == null ? line : line.substring(0, start) + name + line.substring(end);
+    }
+
+    private static String className(String fullyQualifiedName) {
+        return fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1).replace('$', '.');
+    }
+
+    static List<String> indent(List<String> lines, int column) {
+        List<String> indented = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            indented.add(SwaggerDocuments.indent(column) + line);
+        }
+        return indented;
+    }
+
+    private static List<String> array(@Nullable JavaType elemType, Set<String> refs) {
+        List<String> items = schema(elemType, refs);
+        List<String> schema = new ArrayList<>();
+        schema.add("type: array");
+        schema.add("items:");
+        schema.addAll(indent(items == null ? singletonList("type: object") : items, 2));
+        return schema;
+    }
+
+    private static @Nullable JavaType typeParameter(@Nullable JavaType type, int index) {
+        if (type instanceof JavaType.Parameterized) {
+            List<JavaType> typeParameters = ((JavaType.Parameterized) type).getTypeParameters();
+            if (index < typeParameters.size()) {
+                return typeParameters.get(index);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.*;
+
+public class MigrateBodyParametersToRequestBody extends Recipe {
+
+    private static final List<String> FORM_MEDIA_TYPES = Arrays.asList("application/x-www-form-urlencoded", "multipart/form-data");
+    private static final Set<String> NOT_IN_PROPERTY = new HashSet<>(Arrays.asList("name", "in", "required", "allowEmptyValue", "collectionFormat"));
+
+    @Getter
+    final String displayName = "Migrate `body` and `formData` parameters to `requestBody`";
+
+    @Getter
+    final String description = "Replaces the `body` and `formData` parameters of the operations in a Swagger 2.0 document " +
+            "with an OpenAPI 3 `requestBody`, with content for each of the media types the operation `consumes`. " +
+            "Form parameters become the properties of an object schema.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping root = swagger2Root(document);
+                if (root == null) {
+                    return document;
+                }
+                List<String> consumes = mediaTypes(root, "consumes", DEFAULT_MEDIA_TYPES);
+                Yaml.Mapping migrated = mapOperations(root, (op, column) -> requestBody(op, column, consumes, ctx));
+                return document.withBlock(remove(migrated, singleton("consumes")));
+            }
+
+            private Yaml.Mapping requestBody(Yaml.Mapping op, int column, List<String> rootConsumes, ExecutionContext ctx) {
+                List<String> consumes = mediaTypes(op, "consumes", rootConsumes);
+                Yaml.Mapping withoutConsumes = remove(op, singleton("consumes"));
+                Yaml.Mapping.Entry parameters = entry(withoutConsumes, "parameters");
+                if (parameters == null || !(parameters.getValue() instanceof Yaml.Sequence)) {
+                    return withoutConsumes;
+                }
+
+                Yaml.Sequence sequence = (Yaml.Sequence) parameters.getValue();
+                Yaml.Sequence.Entry body = null;
+                List<Yaml.Sequence.Entry> formData = new ArrayList<>();
+                for (Yaml.Sequence.Entry parameter : sequence.getEntries()) {
+                    String in = scalar(parameter.getBlock(), "in");
+                    if ("body".equals(in) && body == null) {
+                        body = parameter;
+                    } else if ("formData".equals(in)) {
+                        formData.add(parameter);
+                    }
+                }
+                String text = body != null ? bodyRequest(body, consumes, column) :
+                        !formData.isEmpty() ? formRequest(formData, consumes, column) : null;
+                if (text == null) {
+                    return withoutConsumes;
+                }
+                Yaml.Mapping.Entry requestBody = parseEntries(text, column, ctx).get(0);
+
+                Yaml.Sequence.Entry bodyParameter = body;
+                List<Yaml.Sequence.Entry> remaining = ListUtils.map(sequence.getEntries(),
+                        p -> p == bodyParameter || formData.contains(p) ? null : p);
+                List<Yaml.Mapping.Entry> entries = new ArrayList<>();
+                for (Yaml.Mapping.Entry entry : withoutConsumes.getEntries()) {
+                    if (entry != parameters) {
+                        entries.add(entry);
+                    } else if (remaining.isEmpty()) {
+                        entries.add(requestBody.withPrefix(entry.getPrefix()));
+                    } else {
+                        entries.add(entry.withValue(sequence.withEntries(remaining)));
+                        entries.add(requestBody);
+                    }
+                }
+                return withoutConsumes.withEntries(entries);
+            }
+
+            private @Nullable String bodyRequest(Yaml.Sequence.Entry parameter, List<String> consumes, int column) {
+                Yaml.Mapping mapping = (Yaml.Mapping) parameter.getBlock();
+                Yaml.Mapping.Entry schema = entry(mapping, "schema");
+                if (schema == null) {
+                    return null;
+                }
+                int from = column(parameter, mapping);
+                StringBuilder text = new StringBuilder(indent(column)).append("requestBody:");
+                for (String key : Arrays.asList("description", "required")) {
+                    Yaml.Mapping.Entry entry = entry(mapping, key);
+                    if (entry != null) {
+                        text.append('\n').append(print(entry, null, from, column + 2));
+                    }
+                }
+                text.append('\n').append(indent(column + 2)).append("content:");
+                for (String mediaType : consumes) {
+                    text.append('\n').append(indent(column + 4)).append(key(mediaType)).append(':');
+                    text.append('\n').append(print(schema, null, from, column + 6));
+                }
+                return text.toString();
+            }
+
+            private String formRequest(List<Yaml.Sequence.Entry> parameters, List<String> consumes, int column) {
+                boolean file = false;
+                List<String> required = new ArrayList<>();
+                StringBuilder properties = new StringBuilder();
+                for (Yaml.Sequence.Entry parameter : parameters) {
+                    Yaml.Mapping mapping = (Yaml.Mapping) parameter.getBlock();
+                    String name = scalar(mapping, "name");
+                    if (name == null) {
+                        continue;
+                    }
+                    if ("true".equals(scalar(mapping, "required"))) {
+                        required.add(name);
+                    }
+                    int from = column(parameter, mapping);
+                    properties.append('\n').append(indent(column + 10)).append(key(name)).append(':');
+                    for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+                        if (NOT_IN_PROPERTY.contains(entry.getKey().getValue())) {
+                            continue;
+                        }
+                        if ("type".equals(entry.getKey().getValue()) && "file".equals(scalar(mapping, "type"))) {
+                            file = true;
+                            properties.append('\n').append(indent(column + 12)).append("type: string");
+                            properties.append('\n').append(indent(column + 12)).append("format: binary");
+                        } else {
+                            properties.append('\n').append(print(entry, null, from, column + 12));
+                        }
+                    }
+                }
+
+                List<String> mediaTypes = new ArrayList<>();
+                for (String mediaType : consumes) {
+                    if (FORM_MEDIA_TYPES.contains(mediaType)) {
+                        mediaTypes.add(mediaType);
+                    }
+                }
+                if (mediaTypes.isEmpty()) {
+                    mediaTypes = singletonList(file ? "multipart/form-data" : "application/x-www-form-urlencoded");
+                }
+
+                StringBuilder text = new StringBuilder(indent(column)).append("requestBody:");
+                text.append('\n').append(indent(column + 2)).append("content:");
+                for (String mediaType : mediaTypes) {
+                    text.append('\n').append(indent(column + 4)).append(key(mediaType)).append(':');
+                    text.append('\n').append(indent(column + 6)).append("schema:");
+                    text.append('\n').append(indent(column + 8)).append("type: object");
+                    text.append('\n').append(indent(column + 8)).append("properties:").append(properties);
+                    if (!required.isEmpty()) {
+                        text.append('\n').append(indent(column + 8)).append("required:");
+                        for (String name : required) {
+                            text.append('\n').append(indent(column + 10)).append("- ").append(key(name));
+                        }
+                    }
+                }
+                return text.toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+import static org.openrewrite.openapi.spec.SwaggerDocuments.*;
+
+public class MigrateDefinitionsToComponents extends Recipe {
+
+    private static final Map<String, String> COMPONENTS = new LinkedHashMap<>();
+    private static final Map<String, String> REFERENCES = new LinkedHashMap<>();
+    private static final Map<String, String> OAUTH2_FLOWS = new HashMap<>();
+
+    static {
+        COMPONENTS.put("definitions", "schemas");
+        COMPONENTS.put("parameters", "parameters");
+        COMPONENTS.put("responses", "responses");
+        COMPONENTS.put("securityDefinitions", "securitySchemes");
+
+        REFERENCES.put("#/definitions/", "#/components/schemas/");
+        REFERENCES.put("#/parameters/", "#/components/parameters/");
+        REFERENCES.put("#/responses/", "#/components/responses/");
+
+        OAUTH2_FLOWS.put("implicit", "implicit");
+        OAUTH2_FLOWS.put("password", "password");
+        OAUTH2_FLOWS.put("application", "clientCredentials");
+        OAUTH2_FLOWS.put("accessCode", "authorizationCode");
+    }
+
+    @Getter
+    final String displayName = "Migrate `definitions` and other reusable objects to `components`";
+
+    @Getter
+    final String description = "Moves the `definitions`, `parameters`, `responses` and `securityDefinitions` " +
+            "of a Swagger 2.0 document to the `schemas`, `parameters`, `responses` and `securitySchemes` " +
+            "of an OpenAPI 3 `components` object, and updates every `$ref` that points to them. " +
+            "Basic authentication and OAuth2 security definitions are converted to their OpenAPI 3 form. " +
+            "When the document already has a `components` object, the reusable objects are merged into it, and a " +
+            "document with an object whose name is already taken in `components` is marked rather than migrated.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping original = swagger2Root(document);
+                if (original == null) {
+                    return document;
+                }
+                Yaml.Document collisions = collisions(document, original);
+                if (collisions != document) {
+                    return collisions;
+                }
+                // Update the references first, so the moved objects are printed with them
+                Yaml.Document d = super.visitDocument(document, ctx);
+                Yaml.Mapping root = (Yaml.Mapping) d.getBlock();
+
+                Yaml.Mapping.Entry existing = entry(root, "components");
+                if (existing != null && !isEmptyMapping(existing.getValue()) && !isObjects(existing)) {
+                    // A `components` that is neither empty nor a block mapping can't be merged into
+                    return d;
+                }
+
+                Set<String> moved = new HashSet<>();
+                for (String component : COMPONENTS.keySet()) {
+                    if (entry(root, component) != null) {
+                        moved.add(component);
+                    }
+                }
+                if (moved.isEmpty()) {
+                    return d;
+                }
+
+                Yaml.Mapping.Entry componentsEntry = existing != null && isObjects(existing) ?
+                        merge(root, existing, ctx) :
+                        parseEntries(components(root), 0, ctx).get(0);
+
+                List<Yaml.Mapping.Entry> entries = new ArrayList<>();
+                boolean added = false;
+                for (Yaml.Mapping.Entry entry : root.getEntries()) {
+                    if (entry == existing) {
+                        entries.add(componentsEntry.withPrefix(entry.getPrefix()));
+                        added = true;
+                    } else if (moved.contains(entry.getKey().getValue())) {
+                        if (!added && existing == null) {
+                            entries.add(componentsEntry.withPrefix(entry.getPrefix()));
+                            added = true;
+                        }
+                    } else {
+                        entries.add(entry);
+                    }
+                }
+                return d.withBlock(root.withEntries(entries));
+            }
+
+            /**
+             * A new {@code components} entry with the reusable objects of the document.
+             */
+            private String components(Yaml.Mapping root) {
+                StringBuilder components = new StringBuilder("components:");
+                for (Map.Entry<String, String> component : COMPONENTS.entrySet()) {
+                    Yaml.Mapping.Entry entry = entry(root, component.getKey());
+                    if (entry != null) {
+                        components.append('\n').append(component(entry, component.getValue(), 2));
+                    }
+                }
+                return components.toString();
+            }
+
+            /**
+             * The document with the objects whose name is already taken in its {@code components} marked, as they
+             * can't be moved without losing one of the two, or the document itself if there are none.
+             */
+            private Yaml.Document collisions(Yaml.Document document, Yaml.Mapping root) {
+                Yaml.Mapping.Entry existing = entry(root, "components");
+                if (existing == null || !isObjects(existing)) {
+                    return document;
+                }
+                Map<String, Set<String>> taken = new HashMap<>();
+                for (Map.Entry<String, String> component : COMPONENTS.entrySet()) {
+                    Yaml.Mapping.Entry section = entry(existing.getValue(), component.getValue());
+                    if (section != null && isObjects(section)) {
+                        Set<String> names = new HashSet<>();
+                        for (Yaml.Mapping.Entry object : ((Yaml.Mapping) section.getValue()).getEntries()) {
+                            names.add(object.getKey().getValue());
+                        }
+                        taken.put(component.getKey(), names);
+                    }
+                }
+                Yaml.Mapping marked = root.withEntries(ListUtils.map(root.getEntries(), entry -> {
+                    Set<String> names = taken.get(entry.getKey().getValue());
+                    if (names == null || !isObjects(entry)) {
+                        return entry;
+                    }
+                    String section = COMPONENTS.get(entry.getKey().getValue());
+                    Yaml.Mapping objects = (Yaml.Mapping) entry.getValue();
+                    return entry.withValue(objects.withEntries(ListUtils.map(objects.getEntries(), object ->
+                            names.contains(object.getKey().getValue()) ?
+                                    SearchResult.found(object, "`" + object.getKey().getValue() + "` is already in `components/" + section + "`") :
+                                    object)));
+                }));
+                return marked == root ? document : document.withBlock(marked);
+            }
+
+            /**
+             * Merges the reusable objects of the document into an existing {@code components} block mapping.
+             * The objects of a section that is already there are added to it, as their names are not taken.
+             */
+            private Yaml.Mapping.Entry merge(Yaml.Mapping root, Yaml.Mapping.Entry components, ExecutionContext ctx) {
+                Yaml.Mapping componentsMapping = (Yaml.Mapping) components.getValue();
+                int column = column(componentsMapping, 2);
+                List<Yaml.Mapping.Entry> sections = new ArrayList<>(componentsMapping.getEntries());
+                for (Map.Entry<String, String> component : COMPONENTS.entrySet()) {
+                    Yaml.Mapping.Entry entry = entry(root, component.getKey());
+                    if (entry == null) {
+                        continue;
+                    }
+                    Yaml.Mapping.Entry section = entry(componentsMapping, component.getValue());
+                    if (section == null) {
+                        sections.add(parseEntries(component(entry, component.getValue(), column), column, ctx).get(0));
+                    } else if (!isObjects(section)) {
+                        int index = sections.indexOf(section);
+                        sections.set(index, parseEntries(component(entry, component.getValue(), column), column, ctx).get(0)
+                                .withPrefix(section.getPrefix()));
+                    } else if (isObjects(entry)) {
+                        Yaml.Mapping sectionMapping = (Yaml.Mapping) section.getValue();
+                        int objectsColumn = column(sectionMapping, column + 2);
+                        String objects = objects((Yaml.Mapping) entry.getValue(), component.getValue(), objectsColumn);
+                        if (!objects.isEmpty()) {
+                            List<Yaml.Mapping.Entry> added = parseEntries(objects.substring(1), objectsColumn, ctx);
+                            int index = sections.indexOf(section);
+                            sections.set(index, section.withValue(sectionMapping.withEntries(
+                                    ListUtils.concatAll(sectionMapping.getEntries(), added))));
+                        }
+                    }
+                }
+                return components.withValue(componentsMapping.withEntries(sections));
+            }
+
+            @Override
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, ExecutionContext ctx) {
+                Yaml.Mapping.Entry e = super.visitMappingEntry(entry, ctx);
+                if ("$ref".equals(e.getKey().getValue()) && e.getValue() instanceof Yaml.Scalar) {
+                    Yaml.Scalar ref = (Yaml.Scalar) e.getValue();
+                    for (Map.Entry<String, String> reference : REFERENCES.entrySet()) {
+                        int index = ref.getValue().indexOf(reference.getKey());
+                        if (index >= 0) {
+                            // Keeps the document part of a reference into another file
+                            String value = ref.getValue().substring(0, index) + reference.getValue() +
+                                    ref.getValue().substring(index + reference.getKey().length());
+                            return e.withValue(ref.withValue(value));
+                        }
+                    }
+                }
+                return e;
+            }
+
+            /**
+             * A section of {@code components} at the given column, with the objects of a Swagger 2.0 section.
+             */
+            private String component(Yaml.Mapping.Entry entry, String name, int column) {
+                if (!isObjects(entry)) {
+                    return print(entry, name, 0, column);
+                }
+                return indent(column) + name + ':' +
+                       objects((Yaml.Mapping) entry.getValue(), name, column + 2);
+            }
+
+            /**
+             * The objects of a Swagger 2.0 section at the given column, each preceded by a line break.
+             */
+            private String objects(Yaml.Mapping objects, String name, int column) {
+                int from = column(objects, 0);
+                StringBuilder text = new StringBuilder();
+                for (Yaml.Mapping.Entry object : objects.getEntries()) {
+                    text.append('\n').append("securitySchemes".equals(name) ?
+                            securityScheme(object, from, column) :
+                            print(object, null, from, column));
+                }
+                return text.toString();
+            }
+
+            private boolean isObjects(Yaml.Mapping.Entry entry) {
+                return entry.getValue() instanceof Yaml.Mapping && isBlock((Yaml.Mapping) entry.getValue()) &&
+                       !((Yaml.Mapping) entry.getValue()).getEntries().isEmpty();
+            }
+
+            private boolean isEmptyMapping(Yaml.Block block) {
+                return block instanceof Yaml.Mapping && ((Yaml.Mapping) block).getEntries().isEmpty();
+            }
+
+            private String securityScheme(Yaml.Mapping.Entry scheme, int from, int at) {
+                String type = scalar(scheme.getValue(), "type");
+                if (!(scheme.getValue() instanceof Yaml.Mapping) || !("basic".equals(type) || "oauth2".equals(type))) {
+                    return print(scheme, null, from, at);
+                }
+                Yaml.Mapping definition = (Yaml.Mapping) scheme.getValue();
+                int column = column(definition, 0);
+                StringBuilder text = new StringBuilder(indent(at)).append(print(scheme.getKey())).append(':');
+                if ("basic".equals(type)) {
+                    text.append('\n').append(indent(at + 2)).append("type: http");
+                    text.append('\n').append(indent(at + 2)).append("scheme: basic");
+                    for (Yaml.Mapping.Entry e : remove(definition, Collections.singleton("type")).getEntries()) {
+                        text.append('\n').append(print(e, null, column, at + 2));
+                    }
+                    return text.toString();
+                }
+
+                List<String> flowKeys = Arrays.asList("authorizationUrl", "tokenUrl", "scopes");
+                text.append('\n').append(indent(at + 2)).append("type: oauth2");
+                Set<String> removed = new HashSet<>(flowKeys);
+                removed.add("type");
+                removed.add("flow");
+                for (Yaml.Mapping.Entry e : remove(definition, removed).getEntries()) {
+                    text.append('\n').append(print(e, null, column, at + 2));
+                }
+                String flow = scalar(definition, "flow");
+                text.append('\n').append(indent(at + 2)).append("flows:");
+                text.append('\n').append(indent(at + 4)).append(flow == null ? "implicit" : OAUTH2_FLOWS.getOrDefault(flow, flow)).append(':');
+                for (String flowKey : flowKeys) {
+                    Yaml.Mapping.Entry e = entry(definition, flowKey);
+                    if (e != null) {
+                        text.append('\n').append(print(e, null, column, at + 6));
+                    } else if ("scopes".equals(flowKey)) {
+                        text.append('\n').append(indent(at + 6)).append("scopes: {}");
+                    }
+                }
+                return text.toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+import static org.openrewrite.openapi.spec.SwaggerDocuments.*;
+
+public class MigrateHostBasePathSchemesToServers extends Recipe {
+
+    private static final List<String> KEYS = Arrays.asList("host", "basePath", "schemes");
+
+    @Getter
+    final String displayName = "Migrate `host`, `basePath` and `schemes` to `servers`";
+
+    @Getter
+    final String description = "Replaces the `host`, `basePath` and `schemes` of a Swagger 2.0 document " +
+            "with an OpenAPI 3 `servers` list, with one server URL per scheme.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping root = swagger2Root(document);
+                if (root == null) {
+                    return document;
+                }
+                String host = scalar(root, "host");
+                String basePath = scalar(root, "basePath");
+                Yaml.Mapping.Entry schemes = entry(root, "schemes");
+                if (host == null && basePath == null && schemes == null) {
+                    return document;
+                }
+
+                Set<String> urls = new LinkedHashSet<>();
+                String path = basePath == null ? "" : basePath;
+                if (host == null) {
+                    urls.add(path.isEmpty() ? "/" : path);
+                } else if (schemes == null || scalars(schemes.getValue()).isEmpty()) {
+                    // Relative to the scheme the document itself is served with
+                    urls.add("//" + host + path);
+                } else {
+                    for (String scheme : scalars(schemes.getValue())) {
+                        urls.add(scheme + "://" + host + path);
+                    }
+                }
+                StringBuilder servers = new StringBuilder("servers:");
+                for (String url : urls) {
+                    servers.append("\n  - url: ").append(url);
+                }
+                Yaml.Mapping.Entry serversEntry = parseEntries(servers.toString(), 0, ctx).get(0);
+
+                List<Yaml.Mapping.Entry> entries = new ArrayList<>();
+                boolean added = false;
+                for (Yaml.Mapping.Entry entry : root.getEntries()) {
+                    if (KEYS.contains(entry.getKey().getValue())) {
+                        if (!added) {
+                            entries.add(serversEntry.withPrefix(entry.getPrefix()));
+                            added = true;
+                        }
+                    } else {
+                        entries.add(entry);
+                    }
+                }
+                return document.withBlock(root.withEntries(entries));
+            }
+        };
+    }
+}
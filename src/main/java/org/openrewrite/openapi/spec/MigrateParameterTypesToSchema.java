@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import static java.util.Collections.singleton;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.*;
+
+public class MigrateParameterTypesToSchema extends Recipe {
+
+    @Getter
+    final String displayName = "Migrate parameter types to `schema`";
+
+    @Getter
+    final String description = "Moves the `type`, `format`, `items` and other schema keywords of the query, path, header " +
+            "and cookie parameters in a Swagger 2.0 document to an OpenAPI 3 `schema`, " +
+            "and replaces their `collectionFormat` with the equivalent `style` and `explode`.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping root = swagger2Root(document);
+                if (root == null) {
+                    return document;
+                }
+                Yaml.Mapping migrated = mapOperations(root, (op, column) -> withParameters(op, ctx));
+
+                Yaml.Mapping.Entry paths = entry(migrated, "paths");
+                if (paths != null && paths.getValue() instanceof Yaml.Mapping) {
+                    Yaml.Mapping pathItems = (Yaml.Mapping) paths.getValue();
+                    Yaml.Mapping migratedPathItems = pathItems.withEntries(ListUtils.map(pathItems.getEntries(), path ->
+                            path.getValue() instanceof Yaml.Mapping ?
+                                    path.withValue(withParameters((Yaml.Mapping) path.getValue(), ctx)) :
+                                    path));
+                    migrated = migrated.withEntries(ListUtils.map(migrated.getEntries(), e -> e == paths ? e.withValue(migratedPathItems) : e));
+                }
+
+                // Reusable parameters, which are moved to `components` later on
+                Yaml.Mapping.Entry parameters = entry(migrated, "parameters");
+                if (parameters != null && parameters.getValue() instanceof Yaml.Mapping) {
+                    Yaml.Mapping parametersMapping = (Yaml.Mapping) parameters.getValue();
+                    Yaml.Mapping migratedParameters = parametersMapping.withEntries(ListUtils.map(parametersMapping.getEntries(), parameter ->
+                            parameter.getValue() instanceof Yaml.Mapping ?
+                                    parameter.withValue(parameter((Yaml.Mapping) parameter.getValue(), column((Yaml.Mapping) parameter.getValue(), 0), ctx)) :
+                                    parameter));
+                    migrated = migrated.withEntries(ListUtils.map(migrated.getEntries(), e -> e == parameters ? e.withValue(migratedParameters) : e));
+                }
+                return document.withBlock(migrated);
+            }
+
+            /**
+             * Migrates the list of parameters of a path item or operation.
+             */
+            private Yaml.Mapping withParameters(Yaml.Mapping mapping, ExecutionContext ctx) {
+                Yaml.Mapping.Entry parameters = entry(mapping, "parameters");
+                if (parameters == null || !(parameters.getValue() instanceof Yaml.Sequence)) {
+                    return mapping;
+                }
+                Yaml.Sequence sequence = (Yaml.Sequence) parameters.getValue();
+                Yaml.Sequence migrated = sequence.withEntries(ListUtils.map(sequence.getEntries(), p ->
+                        p.getBlock() instanceof Yaml.Mapping ?
+                                p.withBlock(parameter((Yaml.Mapping) p.getBlock(), column(p, (Yaml.Mapping) p.getBlock()), ctx)) :
+                                p));
+                return mapping.withEntries(ListUtils.map(mapping.getEntries(), e -> e == parameters ? e.withValue(migrated) : e));
+            }
+
+            private Yaml.Mapping parameter(Yaml.Mapping parameter, int column, ExecutionContext ctx) {
+                String in = scalar(parameter, "in");
+                if (in == null || "body".equals(in) || "formData".equals(in) || !isBlock(parameter)) {
+                    return parameter;
+                }
+                Yaml.Mapping p = parameter;
+                String collectionFormat = scalar(p, "collectionFormat");
+                if (collectionFormat != null) {
+                    p = remove(p, singleton("collectionFormat"));
+                    String style = null;
+                    if ("csv".equals(collectionFormat) && ("query".equals(in) || "cookie".equals(in))) {
+                        style = "explode: false";
+                    } else if ("ssv".equals(collectionFormat) && "query".equals(in)) {
+                        style = "style: spaceDelimited";
+                    } else if ("pipes".equals(collectionFormat) && "query".equals(in)) {
+                        style = "style: pipeDelimited";
+                    }
+                    // `csv` is already the default of the other locations, `multi` the default of query parameters,
+                    // and `tsv` has no equivalent in OpenAPI 3
+                    if (style != null) {
+                        p = p.withEntries(ListUtils.concatAll(p.getEntries(), parseEntries(indent(column) + style, column, ctx)));
+                    }
+                }
+                return withSchema(p, column, ctx);
+            }
+        };
+    }
+}
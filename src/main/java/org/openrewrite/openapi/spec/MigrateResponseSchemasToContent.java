@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+import static java.util.Collections.singleton;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.*;
+
+public class MigrateResponseSchemasToContent extends Recipe {
+
+    private static final List<String> MOVED_TO_CONTENT = Arrays.asList("schema", "examples");
+
+    @Getter
+    final String displayName = "Migrate response `schema` and `examples` to `content`";
+
+    @Getter
+    final String description = "Moves the `schema` and `examples` of the responses in a Swagger 2.0 document " +
+            "to an OpenAPI 3 `content` object, with an entry for each of the media types the operation `produces`. " +
+            "The type of response headers is moved to a `schema` as well.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping root = swagger2Root(document);
+                if (root == null) {
+                    return document;
+                }
+                List<String> produces = mediaTypes(root, "produces", DEFAULT_MEDIA_TYPES);
+                Yaml.Mapping migrated = mapOperations(root, (op, column) -> {
+                    Yaml.Mapping withoutProduces = remove(op, singleton("produces"));
+                    return withResponses(withoutProduces, mediaTypes(op, "produces", produces), ctx);
+                });
+                // Reusable responses, which are moved to `components` later on
+                migrated = withResponses(migrated, produces, ctx);
+                return document.withBlock(remove(migrated, singleton("produces")));
+            }
+
+            private Yaml.Mapping withResponses(Yaml.Mapping mapping, List<String> produces, ExecutionContext ctx) {
+                Yaml.Mapping.Entry responses = entry(mapping, "responses");
+                if (responses == null || !(responses.getValue() instanceof Yaml.Mapping)) {
+                    return mapping;
+                }
+                Yaml.Mapping responsesMapping = (Yaml.Mapping) responses.getValue();
+                Yaml.Mapping migrated = responsesMapping.withEntries(ListUtils.map(responsesMapping.getEntries(), response ->
+                        response.getValue() instanceof Yaml.Mapping && isBlock((Yaml.Mapping) response.getValue()) ?
+                                response.withValue(response((Yaml.Mapping) response.getValue(), produces, ctx)) :
+                                response));
+                return mapping.withEntries(ListUtils.map(mapping.getEntries(), e -> e == responses ? e.withValue(migrated) : e));
+            }
+
+            private Yaml.Mapping response(Yaml.Mapping response, List<String> produces, ExecutionContext ctx) {
+                int column = column(response, 0);
+                Yaml.Mapping r = response;
+
+                Yaml.Mapping.Entry headers = entry(r, "headers");
+                if (headers != null && headers.getValue() instanceof Yaml.Mapping) {
+                    Yaml.Mapping headersMapping = (Yaml.Mapping) headers.getValue();
+                    Yaml.Mapping migratedHeaders = headersMapping.withEntries(ListUtils.map(headersMapping.getEntries(), header ->
+                            header.getValue() instanceof Yaml.Mapping && isBlock((Yaml.Mapping) header.getValue()) ?
+                                    header.withValue(withSchema((Yaml.Mapping) header.getValue(), column((Yaml.Mapping) header.getValue(), 0), ctx)) :
+                                    header));
+                    r = r.withEntries(ListUtils.map(r.getEntries(), e -> e == headers ? e.withValue(migratedHeaders) : e));
+                }
+
+                Yaml.Mapping.Entry schema = entry(r, "schema");
+                Yaml.Mapping.Entry examples = entry(r, "examples");
+                Map<String, Yaml.Mapping.Entry> examplesByMediaType = new LinkedHashMap<>();
+                int examplesColumn = 0;
+                if (examples != null && examples.getValue() instanceof Yaml.Mapping) {
+                    Yaml.Mapping examplesMapping = (Yaml.Mapping) examples.getValue();
+                    examplesColumn = column(examplesMapping, column + 2);
+                    for (Yaml.Mapping.Entry example : examplesMapping.getEntries()) {
+                        examplesByMediaType.put(example.getKey().getValue(), example);
+                    }
+                }
+                if (schema == null && examplesByMediaType.isEmpty()) {
+                    return r;
+                }
+
+                Set<String> mediaTypes = new LinkedHashSet<>(produces);
+                mediaTypes.addAll(examplesByMediaType.keySet());
+                StringBuilder content = new StringBuilder(indent(column)).append("content:");
+                for (String mediaType : mediaTypes) {
+                    content.append('\n').append(indent(column + 2)).append(key(mediaType)).append(':');
+                    if (schema != null) {
+                        content.append('\n').append(print(schema, null, column, column + 4));
+                    }
+                    Yaml.Mapping.Entry example = examplesByMediaType.get(mediaType);
+                    if (example != null) {
+                        content.append('\n').append(print(example, "example", examplesColumn, column + 4));
+                    }
+                }
+                Yaml.Mapping.Entry contentEntry = parseEntries(content.toString(), column, ctx).get(0);
+
+                Yaml.Mapping withoutSchema = remove(r, MOVED_TO_CONTENT);
+                return withoutSchema.withEntries(ListUtils.concat(withoutSchema.getEntries(), contentEntry));
+            }
+        };
+    }
+}
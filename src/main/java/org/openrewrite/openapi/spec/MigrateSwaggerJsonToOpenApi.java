@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.json.JsonIsoVisitor;
+import org.openrewrite.json.tree.Json;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MigrateSwaggerJsonToOpenApi extends Recipe {
+
+    /**
+     * The YAML recipes of {@code org.openrewrite.openapi.spec.SwaggerSpecToOpenAPI}, in the same order.
+     */
+    private static final List<Recipe> YAML_RECIPES = Arrays.asList(
+            new MigrateBodyParametersToRequestBody(),
+            new MigrateResponseSchemasToContent(),
+            new MigrateParameterTypesToSchema(),
+            new MigrateDefinitionsToComponents(),
+            new MigrateHostBasePathSchemesToServers(),
+            new MigrateSwaggerVersionToOpenApi());
+
+    @Getter
+    final String displayName = "Migrate Swagger 2.0 JSON documents to OpenAPI 3";
+
+    @Getter
+    final String description = "Migrates `swagger.json` documents in the Swagger 2.0 format to the OpenAPI 3.0 format, " +
+            "with the same changes the specification recipes make to `swagger.yaml` documents. " +
+            "The migrated document is written with the indentation of the original one. A document with reusable objects " +
+            "whose name is already taken in its `components` is marked rather than migrated.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new JsonIsoVisitor<ExecutionContext>() {
+            @Override
+            public Json.Document visitDocument(Json.Document document, ExecutionContext ctx) {
+                if (!SwaggerJson.isSwagger2(document)) {
+                    return document;
+                }
+                Yaml.Documents before = SwaggerJson.toYaml(document, ctx);
+                Tree after = before;
+                for (Recipe recipe : YAML_RECIPES) {
+                    after = recipe.getVisitor().visitNonNull(after, ctx);
+                }
+                if (after == before) {
+                    return document;
+                }
+                List<String> collisions = collisions((Yaml.Documents) after);
+                return collisions.isEmpty() ?
+                        SwaggerJson.toJson((Yaml.Documents) after, document, ctx) :
+                        SearchResult.found(document, String.join(", ", collisions));
+            }
+
+            /**
+             * The objects {@link MigrateDefinitionsToComponents} marked, as JSON documents can't carry the markers.
+             */
+            private List<String> collisions(Yaml.Documents documents) {
+                return new YamlIsoVisitor<List<String>>() {
+                    @Override
+                    public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, List<String> collisions) {
+                        entry.getMarkers().findFirst(SearchResult.class)
+                                .map(SearchResult::getDescription)
+                                .ifPresent(collisions::add);
+                        return super.visitMappingEntry(entry, collisions);
+                    }
+                }.reduce(documents, new ArrayList<>());
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import static org.openrewrite.openapi.spec.SwaggerDocuments.parseEntries;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.swagger2Root;
+
+public class MigrateSwaggerVersionToOpenApi extends Recipe {
+
+    @Getter
+    final String displayName = "Replace `swagger: 2.0` with `openapi: 3.0.3`";
+
+    @Getter
+    final String description = "Declares a Swagger 2.0 document to be an OpenAPI 3.0.3 document. " +
+            "Run this last, as the other specification recipes only apply to Swagger 2.0 documents.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Document visitDocument(Yaml.Document document, ExecutionContext ctx) {
+                Yaml.Mapping root = swagger2Root(document);
+                if (root == null) {
+                    return document;
+                }
+                Yaml.Mapping.Entry openapi = parseEntries("openapi: 3.0.3", 0, ctx).get(0);
+                return document.withBlock(root.withEntries(ListUtils.map(root.getEntries(), e ->
+                        "swagger".equals(e.getKey().getValue()) ? openapi.withPrefix(e.getPrefix()) : e)));
+            }
+        };
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Navigation and editing helpers for Swagger 2.0 documents in block style YAML.
+ * <p>
+ * New entries are produced as YAML text at the column they are inserted at and parsed with the {@link YamlParser},
+ * so that moved values keep their comments, quoting and the indentation of their lines relative to each other.
+ */
+@UtilityClass
+class SwaggerDocuments {
+    static final List<String> OPERATIONS = Arrays.asList("get", "put", "post", "delete", "options", "head", "patch");
+
+    /**
+     * The Swagger 2.0 parameter and header keywords that OpenAPI 3 expects within a {@code schema}.
+     */
+    static final Set<String> SCHEMA_KEYWORDS = new HashSet<>(Arrays.asList(
+            "type", "format", "items", "default", "maximum", "exclusiveMaximum", "minimum", "exclusiveMinimum",
+            "maxLength", "minLength", "pattern", "maxItems", "minItems", "uniqueItems", "enum", "multipleOf"));
+
+    static final List<String> DEFAULT_MEDIA_TYPES = singletonList("application/json");
+
+    private static final Pattern PLAIN_KEY = Pattern.compile("[A-Za-z0-9_][A-Za-z0-9_./+-]*");
+
+    /**
+     * The root mapping of a Swagger 2.0 document, or {@code null} for any other document.
+     */
+    static Yaml.@Nullable Mapping swagger2Root(Yaml.Document document) {
+        if (document.getBlock() instanceof Yaml.Mapping) {
+            Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+            String version = scalar(root, "swagger");
+            if (isBlock(root) && version != null && version.startsWith("2")) {
+                return root;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The root mapping of an OpenAPI 3 document, or {@code null} for any other document.
+     */
+    static Yaml.@Nullable Mapping openApi3Root(Yaml.Document document) {
+        if (document.getBlock() instanceof Yaml.Mapping) {
+            Yaml.Mapping root = (Yaml.Mapping) document.getBlock();
+            String version = scalar(root, "openapi");
+            if (isBlock(root) && version != null && version.startsWith("3")) {
+                return root;
+            }
+        }
+        return null;
+    }
+
+    static Yaml.Mapping.@Nullable Entry entry(Yaml.@Nullable Block block, String key) {
+        if (block instanceof Yaml.Mapping) {
+            for (Yaml.Mapping.Entry entry : ((Yaml.Mapping) block).getEntries()) {
+                if (key.equals(entry.getKey().getValue())) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    static @Nullable String scalar(Yaml.@Nullable Block block, String key) {
+        Yaml.Mapping.Entry entry = entry(block, key);
+        return entry != null && entry.getValue() instanceof Yaml.Scalar ? ((Yaml.Scalar) entry.getValue()).getValue() : null;
+    }
+
+    /**
+     * The values of a sequence of scalars, or of a single scalar.
+     */
+    static List<String> scalars(Yaml.@Nullable Block block) {
+        if (block instanceof Yaml.Scalar) {
+            return singletonList(((Yaml.Scalar) block).getValue());
+        }
+        if (!(block instanceof Yaml.Sequence)) {
+            return emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        for (Yaml.Sequence.Entry entry : ((Yaml.Sequence) block).getEntries()) {
+            if (entry.getBlock() instanceof Yaml.Scalar) {
+                values.add(((Yaml.Scalar) entry.getBlock()).getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * The {@code consumes} or {@code produces} media types of a document or operation, falling back to the given defaults.
+     */
+    static List<String> mediaTypes(Yaml.Mapping mapping, String key, List<String> defaults) {
+        Yaml.Mapping.Entry entry = entry(mapping, key);
+        List<String> mediaTypes = entry == null ? emptyList() : scalars(entry.getValue());
+        return mediaTypes.isEmpty() ? defaults : mediaTypes;
+    }
+
+    static boolean isBlock(Yaml.Mapping mapping) {
+        return mapping.getOpeningBracePrefix() == null;
+    }
+
+    /**
+     * The column of an element with the given prefix, which starts at {@code start} if the prefix has no line break.
+     */
+    static int column(String prefix, int start) {
+        int lineBreak = prefix.lastIndexOf('\n');
+        return lineBreak < 0 ? start + prefix.length() : prefix.length() - lineBreak - 1;
+    }
+
+    /**
+     * The column of the entries of a mapping, which starts at {@code start} if its first entry is on the same line.
+     */
+    static int column(Yaml.Mapping mapping, int start) {
+        return mapping.getEntries().isEmpty() ? start : column(mapping.getEntries().get(0).getPrefix(), start);
+    }
+
+    /**
+     * The column of the entries of the mapping in a block sequence entry, as in {@code - in: body}.
+     */
+    static int column(Yaml.Sequence.Entry entry, Yaml.Mapping mapping) {
+        return column(mapping, column(entry.getPrefix(), 0) + 1);
+    }
+
+    static String indent(int column) {
+        return StringUtils.repeat(" ", column);
+    }
+
+    static String key(String key) {
+        return PLAIN_KEY.matcher(key).matches() ? key : "'" + key.replace("'", "''") + "'";
+    }
+
+    static String print(Yaml yaml) {
+        return yaml.print(new Cursor(null, Cursor.ROOT_VALUE));
+    }
+
+    /**
+     * Prints an entry at column {@code to}, optionally under a new key. The lines of its value keep their indentation
+     * relative to the entry, which is at column {@code from} in the document.
+     */
+    static String print(Yaml.Mapping.Entry entry, @Nullable String key, int from, int to) {
+        String printed = print(entry.withPrefix(""));
+        if (key != null) {
+            printed = key + printed.substring(print(entry.getKey()).length());
+        }
+        return reindent(printed, from, to);
+    }
+
+    /**
+     * Prints a block mapping at column {@code to}, with the lines of its entries keeping their indentation relative
+     * to each other. The entries are at column {@code from} in the document.
+     */
+    static String print(Yaml.Mapping mapping, int from, int to) {
+        if (mapping.getEntries().isEmpty()) {
+            return indent(to) + "{}";
+        }
+        return reindent(print(mapping.withEntries(ListUtils.mapFirst(mapping.getEntries(), e -> e.withPrefix("")))), from, to);
+    }
+
+    private static String reindent(String printed, int from, int to) {
+        String[] lines = printed.split("\n", -1);
+        StringBuilder text = new StringBuilder(indent(to)).append(lines[0]);
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i];
+            text.append('\n');
+            int leading = 0;
+            while (leading < line.length() && line.charAt(leading) == ' ') {
+                leading++;
+            }
+            if (leading < line.length()) {
+                text.append(indent(to)).append(line.substring(Math.min(leading, from)));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Parses mapping entries written at the given column. Entries parsed at a column other than zero
+     * already have the prefix of a new line at that column.
+     */
+    static List<Yaml.Mapping.Entry> parseEntries(String text, int column, ExecutionContext ctx) {
+        Yaml.Mapping root = (Yaml.Mapping) parse(column == 0 ? text : "_:\n" + text, ctx);
+        return column == 0 ? root.getEntries() : ((Yaml.Mapping) root.getEntries().get(0).getValue()).getEntries();
+    }
+
+    private static Yaml.Block parse(String text, ExecutionContext ctx) {
+        return new YamlParser().parse(ctx, text)
+                .findFirst()
+                .filter(Yaml.Documents.class::isInstance)
+                .map(documents -> ((Yaml.Documents) documents).getDocuments().get(0).getBlock())
+                .filter(Yaml.Mapping.class::isInstance)
+                .orElseThrow(() -> new IllegalStateException("Unable to parse generated YAML:\n" + text));
+    }
+
+    /**
+     * Removes the entries with the given keys. If the first entry is removed, the next one takes its prefix.
+     */
+    static Yaml.Mapping remove(Yaml.Mapping mapping, Collection<String> keys) {
+        if (mapping.getEntries().isEmpty()) {
+            return mapping;
+        }
+        Yaml.Mapping.Entry first = mapping.getEntries().get(0);
+        List<Yaml.Mapping.Entry> entries = ListUtils.map(mapping.getEntries(), e -> keys.contains(e.getKey().getValue()) ? null : e);
+        if (!entries.isEmpty() && entries.get(0) != first) {
+            entries = ListUtils.mapFirst(entries, e -> e.withPrefix(first.getPrefix()));
+        }
+        return mapping.withEntries(entries);
+    }
+
+    /**
+     * Moves the {@link #SCHEMA_KEYWORDS} of a parameter or header, whose entries are at the given column, to a {@code schema}.
+     */
+    static Yaml.Mapping withSchema(Yaml.Mapping mapping, int column, ExecutionContext ctx) {
+        StringBuilder schema = new StringBuilder(indent(column)).append("schema:");
+        boolean found = false;
+        for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+            if (SCHEMA_KEYWORDS.contains(entry.getKey().getValue())) {
+                schema.append('\n').append(print(entry, null, column, column + 2));
+                found = true;
+            }
+        }
+        if (!found) {
+            return mapping;
+        }
+        Yaml.Mapping withoutKeywords = remove(mapping, SCHEMA_KEYWORDS);
+        return withoutKeywords.withEntries(ListUtils.concatAll(withoutKeywords.getEntries(), parseEntries(schema.toString(), column, ctx)));
+    }
+
+    /**
+     * Applies a function to each operation under {@code paths}, along with the column of the operation's entries.
+     */
+    static Yaml.Mapping mapOperations(Yaml.Mapping root, BiFunction<Yaml.Mapping, Integer, Yaml.Mapping> operation) {
+        Yaml.Mapping.Entry paths = entry(root, "paths");
+        if (paths == null || !(paths.getValue() instanceof Yaml.Mapping)) {
+            return root;
+        }
+        Yaml.Mapping pathItems = (Yaml.Mapping) paths.getValue();
+        Yaml.Mapping migratedPathItems = pathItems.withEntries(ListUtils.map(pathItems.getEntries(), path -> {
+            if (!(path.getValue() instanceof Yaml.Mapping)) {
+                return path;
+            }
+            Yaml.Mapping pathItem = (Yaml.Mapping) path.getValue();
+            return path.withValue(pathItem.withEntries(ListUtils.map(pathItem.getEntries(), op -> {
+                if (!OPERATIONS.contains(op.getKey().getValue()) || !(op.getValue() instanceof Yaml.Mapping) ||
+                    !isBlock((Yaml.Mapping) op.getValue())) {
+                    return op;
+                }
+                Yaml.Mapping mapping = (Yaml.Mapping) op.getValue();
+                return op.withValue(operation.apply(mapping, column(mapping, 0)));
+            })));
+        }));
+        return root.withEntries(ListUtils.map(root.getEntries(), e -> e == paths ? e.withValue(migratedPathItems) : e));
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import lombok.experimental.UtilityClass;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.json.JsonParser;
+import org.openrewrite.json.tree.Json;
+import org.openrewrite.json.tree.JsonKey;
+import org.openrewrite.json.tree.JsonValue;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+import org.openrewrite.yaml.tree.YamlKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.openrewrite.openapi.spec.SwaggerDocuments.indent;
+import static org.openrewrite.openapi.spec.SwaggerDocuments.key;
+
+/**
+ * Converts Swagger documents between JSON and block style YAML, so that JSON documents can be migrated by the
+ * recipes written for YAML documents.
+ * <p>
+ * JSON strings are written to YAML as they are in the source, since a JSON string is also a valid double-quoted YAML
+ * scalar, and double-quoted scalars are written back the same way. Plain YAML scalars, which the migration recipes
+ * produce, become JSON numbers, booleans and nulls where they look like one, and strings otherwise.
+ */
+@UtilityClass
+class SwaggerJson {
+    private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    static boolean isSwagger2(Json.Document document) {
+        if (document.getValue() instanceof Json.JsonObject) {
+            for (Json.Member member : members((Json.JsonObject) document.getValue())) {
+                if ("swagger".equals(key(member.getKey()))) {
+                    return member.getValue() instanceof Json.Literal &&
+                           String.valueOf(((Json.Literal) member.getValue()).getValue()).startsWith("2");
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The indentation of the members of the root object, or two spaces if they are not on lines of their own.
+     */
+    static String indentation(Json.Document document) {
+        if (document.getValue() instanceof Json.JsonObject) {
+            List<Json.Member> members = members((Json.JsonObject) document.getValue());
+            if (!members.isEmpty()) {
+                String whitespace = members.get(0).getPrefix().getWhitespace();
+                int lineBreak = whitespace.lastIndexOf('\n');
+                if (lineBreak >= 0 && lineBreak < whitespace.length() - 1) {
+                    return whitespace.substring(lineBreak + 1);
+                }
+            }
+        }
+        return "  ";
+    }
+
+    static Yaml.Documents toYaml(Json.Document document, ExecutionContext ctx) {
+        StringBuilder yaml = new StringBuilder();
+        Json.JsonObject root = (Json.JsonObject) document.getValue();
+        if (members(root).isEmpty()) {
+            yaml.append("{}");
+        } else {
+            entries(root, 0, true, yaml);
+        }
+        return new YamlParser().parse(ctx, yaml.toString())
+                .findFirst()
+                .filter(Yaml.Documents.class::isInstance)
+                .map(Yaml.Documents.class::cast)
+                .orElseThrow(() -> new IllegalStateException("Unable to parse the YAML form of " + document.getSourcePath()))
+                .withSourcePath(document.getSourcePath());
+    }
+
+    static Json.Document toJson(Yaml.Documents documents, Json.Document original, ExecutionContext ctx) {
+        StringBuilder json = new StringBuilder();
+        value(documents.getDocuments().get(0).getBlock(), 0, indentation(original), json);
+        Json.Document parsed = new JsonParser().parse(ctx, json.toString())
+                .findFirst()
+                .filter(Json.Document.class::isInstance)
+                .map(Json.Document.class::cast)
+                .orElseThrow(() -> new IllegalStateException("Unable to parse the migrated " + original.getSourcePath()));
+        return original.withValue(parsed.getValue());
+    }
+
+    private static List<Json.Member> members(Json.JsonObject object) {
+        List<Json.Member> members = new ArrayList<>();
+        for (Json member : object.getMembers()) {
+            if (member instanceof Json.Member) {
+                members.add((Json.Member) member);
+            }
+        }
+        return members;
+    }
+
+    private static List<JsonValue> values(Json.Array array) {
+        List<JsonValue> values = new ArrayList<>();
+        for (JsonValue value : array.getValues()) {
+            if (!(value instanceof Json.Empty)) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static String key(JsonKey key) {
+        return key instanceof Json.Identifier ?
+                ((Json.Identifier) key).getName() :
+                String.valueOf(((Json.Literal) key).getValue());
+    }
+
+    /**
+     * Writes the members of an object at the given column, the first one on the current line if {@code inline}.
+     */
+    private static void entries(Json.JsonObject object, int column, boolean inline, StringBuilder yaml) {
+        boolean first = true;
+        for (Json.Member member : members(object)) {
+            if (!first || !inline) {
+                yaml.append('\n').append(indent(column));
+            }
+            first = false;
+            yaml.append(key(key(member.getKey()))).append(':');
+            JsonValue value = member.getValue();
+            if (value instanceof Json.JsonObject && !members((Json.JsonObject) value).isEmpty()) {
+                entries((Json.JsonObject) value, column + 2, false, yaml);
+            } else if (value instanceof Json.Array && !values((Json.Array) value).isEmpty()) {
+                items((Json.Array) value, column + 2, yaml);
+            } else {
+                yaml.append(' ').append(scalar(value));
+            }
+        }
+    }
+
+    /**
+     * Writes the values of an array as block sequence entries, with the dashes at the given column.
+     */
+    private static void items(Json.Array array, int column, StringBuilder yaml) {
+        for (JsonValue value : values(array)) {
+            yaml.append('\n').append(indent(column)).append('-');
+            if (value instanceof Json.JsonObject && !members((Json.JsonObject) value).isEmpty()) {
+                yaml.append(' ');
+                entries((Json.JsonObject) value, column + 2, true, yaml);
+            } else if (value instanceof Json.Array && !values((Json.Array) value).isEmpty()) {
+                items((Json.Array) value, column + 2, yaml);
+            } else {
+                yaml.append(' ').append(scalar(value));
+            }
+        }
+    }
+
+    private static String scalar(JsonValue value) {
+        if (value instanceof Json.JsonObject) {
+            return "{}";
+        } else if (value instanceof Json.Array) {
+            return "[]";
+        }
+        return ((Json.Literal) value).getSource();
+    }
+
+    private static void value(Yaml.Block block, int depth, String indentation, StringBuilder json) {
+        if (block instanceof Yaml.Mapping) {
+            List<Yaml.Mapping.Entry> entries = ((Yaml.Mapping) block).getEntries();
+            if (entries.isEmpty()) {
+                json.append("{}");
+                return;
+            }
+            json.append('{');
+            for (int i = 0; i < entries.size(); i++) {
+                json.append(i == 0 ? "" : ",").append('\n').append(StringUtils.repeat(indentation, depth + 1));
+                json.append(key(entries.get(i).getKey())).append(": ");
+                value(entries.get(i).getValue(), depth + 1, indentation, json);
+            }
+            json.append('\n').append(StringUtils.repeat(indentation, depth)).append('}');
+        } else if (block instanceof Yaml.Sequence) {
+            List<Yaml.Sequence.Entry> entries = ((Yaml.Sequence) block).getEntries();
+            if (entries.isEmpty()) {
+                json.append("[]");
+                return;
+            }
+            json.append('[');
+            for (int i = 0; i < entries.size(); i++) {
+                json.append(i == 0 ? "" : ",").append('\n').append(StringUtils.repeat(indentation, depth + 1));
+                value(entries.get(i).getBlock(), depth + 1, indentation, json);
+            }
+            json.append('\n').append(StringUtils.repeat(indentation, depth)).append(']');
+        } else if (block instanceof Yaml.Scalar) {
+            json.append(scalar((Yaml.Scalar) block));
+        } else {
+            throw new IllegalStateException("Unable to write " + block.getClass().getSimpleName() + " as JSON");
+        }
+    }
+
+    private static String key(YamlKey key) {
+        return key instanceof Yaml.Scalar && ((Yaml.Scalar) key).getStyle() != Yaml.Scalar.Style.PLAIN ?
+                scalar((Yaml.Scalar) key) :
+                string(key.getValue());
+    }
+
+    private static String scalar(Yaml.Scalar scalar) {
+        String value = scalar.getValue();
+        switch (scalar.getStyle()) {
+            case DOUBLE_QUOTED:
+                return '"' + value + '"';
+            case SINGLE_QUOTED:
+                return string(value.replace("''", "'"));
+            case PLAIN:
+                if ("true".equals(value) || "false".equals(value) || "null".equals(value) || NUMBER.matcher(value).matches()) {
+                    return value;
+                }
+                return "~".equals(value) ? "null" : string(value);
+            default:
+                return string(value);
+        }
+    }
+
+    private static String string(String value) {
+        StringBuilder json = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.maven.tree.Dependency;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyMap;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class AddSpringdocConfiguration extends ScanningRecipe<AddSpringdocConfiguration.Accumulator> {
+
+    private static final String SPRINGDOC_GROUP_ID = "org.springdoc";
+    private static final String SPRINGDOC = SPRINGDOC_GROUP_ID + ".";
+
+    /**
+     * A springdoc dependency in a build file without a Maven or Gradle model, in Gradle's string or map notation,
+     * or in a Maven {@code <groupId>}.
+     */
+    private static final Pattern SPRINGDOC_DEPENDENCY = Pattern.compile(
+            "[\"']org\\.springdoc:|group\\s*[:=]\\s*[\"']org\\.springdoc[\"']|<groupId>\\s*org\\.springdoc\\s*</groupId>");
+
+    private static final List<String> BUILD_FILES = Arrays.asList("pom.xml", "build.gradle", "build.gradle.kts");
+    private static final List<String> CONTROLLERS = Arrays.asList(
+            "org.springframework.web.bind.annotation.RestController",
+            "org.springframework.stereotype.Controller");
+    private static final List<String> PROFILE_KEYS = Arrays.asList("spring.config.activate.on-profile", "spring.profiles");
+    private static final String RESOURCES = "src/main/resources/";
+    private static final Pattern CONFIG_FILE = Pattern.compile("application(?:-([^.]+))?\\.(properties|yml|yaml)");
+
+    private static final Map<String, String> PRODUCTION_SETTINGS = new LinkedHashMap<>();
+
+    static {
+        PRODUCTION_SETTINGS.put("springdoc.api-docs.enabled", "false");
+        PRODUCTION_SETTINGS.put("springdoc.swagger-ui.enabled", "false");
+    }
+
+    @Option(displayName = "Production profiles",
+            description = "A comma separated list of the Spring profiles in which the `/v3/api-docs` endpoint and the Swagger UI " +
+                          "are disabled. Defaults to `prod`.",
+            example = "prod,production",
+            required = false)
+    @Nullable
+    String productionProfiles;
+
+    String displayName = "Add springdoc configuration";
+
+    String description = "Adds springdoc settings to the `application.properties` or `application.yml` of each module that " +
+            "depends on springdoc, as found in its build file or on the classpath of its main sources. " +
+            "`springdoc.packages-to-scan` is set to the packages of the module's Spring MVC controllers, so that the " +
+            "OpenAPI model is built from those packages only. The `api-docs` endpoint and the Swagger UI are disabled " +
+            "in the production profiles, in their profile specific configuration file or `spring.config.activate.on-profile` document, which is created when " +
+            "there is none. Settings that are already configured, with any value, are left unchanged.";
+
+    public static class Accumulator {
+        final Set<String> springdocModules = new HashSet<>();
+        final Map<String, Set<String>> controllerPackages = new HashMap<>();
+
+        /**
+         * Whether the classpath of each source set, by the id of its marker, has springdoc on it.
+         */
+        final Map<UUID, Boolean> springdocSourceSets = new HashMap<>();
+
+        /**
+         * The paths of all source files, and the profiles of the documents of each module's main `application.yml`,
+         * as {@code module:profile}.
+         */
+        final Set<String> existing = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                Path sourcePath = sourceFile.getSourcePath();
+                acc.existing.add(separatorsToUnix(sourcePath));
+                Path fileName = sourcePath.getFileName();
+                if (fileName != null && BUILD_FILES.contains(fileName.toString())) {
+                    if (dependsOnSpringdoc(sourceFile)) {
+                        Path parent = sourcePath.getParent();
+                        acc.springdocModules.add(parent == null ? "" : separatorsToUnix(parent));
+                    }
+                    return tree;
+                }
+                String module = moduleDirectory(sourcePath);
+                if (module == null) {
+                    return tree;
+                }
+                if (tree instanceof J.CompilationUnit) {
+                    scan((J.CompilationUnit) tree, module, acc);
+                } else if (tree instanceof Yaml.Documents) {
+                    Matcher configFile = configFile(sourcePath, module);
+                    if (configFile != null && configFile.group(1) == null) {
+                        for (Yaml.Document document : ((Yaml.Documents) tree).getDocuments()) {
+                            for (String profile : profiles(document)) {
+                                acc.existing.add(module + ":" + profile);
+                            }
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static boolean dependsOnSpringdoc(SourceFile buildFile) {
+        Optional<MavenResolutionResult> maven = buildFile.getMarkers().findFirst(MavenResolutionResult.class);
+        if (maven.isPresent()) {
+            return !maven.get().findDependencies(SPRINGDOC_GROUP_ID, "*", null).isEmpty();
+        }
+        Optional<GradleProject> gradle = buildFile.getMarkers().findFirst(GradleProject.class);
+        if (gradle.isPresent()) {
+            for (GradleDependencyConfiguration configuration : gradle.get().getConfigurations()) {
+                for (Dependency dependency : configuration.getRequested()) {
+                    if (SPRINGDOC_GROUP_ID.equals(dependency.getGroupId())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        return SPRINGDOC_DEPENDENCY.matcher(buildFile.printAll()).find();
+    }
+
+    private static void scan(J.CompilationUnit cu, String module, Accumulator acc) {
+        if (!acc.springdocModules.contains(module) && usesSpringdoc(cu, acc)) {
+            acc.springdocModules.add(module);
+        }
+        if (cu.getPackageDeclaration() == null) {
+            // springdoc can't scan the default package on its own
+            return;
+        }
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                for (String controller : CONTROLLERS) {
+                    if (TypeUtils.isOfClassType(annotation.getType(), controller)) {
+                        acc.controllerPackages.computeIfAbsent(module, m -> new TreeSet<>())
+                                .add(cu.getPackageDeclaration().getPackageName());
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean usesSpringdoc(J.CompilationUnit cu, Accumulator acc) {
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified &&
+                ((JavaType.FullyQualified) type).getFullyQualifiedName().startsWith(SPRINGDOC)) {
+                return true;
+            }
+        }
+        // The compilation units of a source set share its classpath, which is only searched once
+        JavaSourceSet sourceSet = cu.getMarkers().findFirst(JavaSourceSet.class).orElse(null);
+        return sourceSet != null && acc.springdocSourceSets.computeIfAbsent(sourceSet.getId(), id -> {
+            for (JavaType.FullyQualified type : sourceSet.getClasspath()) {
+                if (type.getFullyQualifiedName().startsWith(SPRINGDOC)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        for (String module : new TreeSet<>(acc.springdocModules)) {
+            String extension = "properties";
+            boolean configured = false;
+            for (String candidate : Arrays.asList("properties", "yml", "yaml")) {
+                if (acc.existing.contains(resource(module, "application." + candidate))) {
+                    extension = candidate;
+                    configured = true;
+                    break;
+                }
+            }
+            Map<String, String> settings = settings(acc, module);
+            if (!configured && !settings.isEmpty()) {
+                generated.add(configFile(module, "application.properties", settings, ctx));
+            }
+            for (String profile : productionProfiles()) {
+                if (acc.existing.contains(module + ":" + profile) ||
+                    acc.existing.contains(resource(module, "application-" + profile + ".properties")) ||
+                    acc.existing.contains(resource(module, "application-" + profile + ".yml")) ||
+                    acc.existing.contains(resource(module, "application-" + profile + ".yaml"))) {
+                    continue;
+                }
+                generated.add(configFile(module, "application-" + profile + "." + extension, PRODUCTION_SETTINGS, ctx));
+            }
+        }
+        return generated;
+    }
+
+    private static SourceFile configFile(String module, String name, Map<String, String> settings, ExecutionContext ctx) {
+        Path path = Paths.get(resource(module, name));
+        if (name.endsWith(".properties")) {
+            StringBuilder text = new StringBuilder();
+            for (Map.Entry<String, String> setting : settings.entrySet()) {
+                text.append(setting.getKey()).append('=').append(setting.getValue()).append('\n');
+            }
+            return parseProperties(text.toString(), ctx).withSourcePath(path);
+        }
+        return new YamlParser().parse(ctx, yaml(settings))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unable to parse generated " + name))
+                .withSourcePath(path);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Properties.File) && !(tree instanceof Yaml.Documents)) {
+                    return tree;
+                }
+                Path sourcePath = ((SourceFile) tree).getSourcePath();
+                String module = moduleDirectory(sourcePath);
+                Matcher configFile = module == null ? null : configFile(sourcePath, module);
+                if (configFile == null || !acc.springdocModules.contains(module)) {
+                    return tree;
+                }
+                String profile = configFile.group(1);
+                Map<String, String> settings = profile == null ? settings(acc, module) :
+                        productionProfiles().contains(profile) ? PRODUCTION_SETTINGS : emptyMap();
+                if (tree instanceof Properties.File) {
+                    return add((Properties.File) tree, settings, ctx);
+                }
+                Yaml.Documents documents = (Yaml.Documents) tree;
+                return documents.withDocuments(ListUtils.map(documents.getDocuments(), (i, document) -> {
+                    List<String> profiles = profiles(document);
+                    if (profiles.isEmpty()) {
+                        return i == 0 ? add(document, settings, ctx) : document;
+                    }
+                    if (profile == null) {
+                        for (String p : profiles) {
+                            if (productionProfiles().contains(p)) {
+                                return add(document, PRODUCTION_SETTINGS, ctx);
+                            }
+                        }
+                    }
+                    return document;
+                }));
+            }
+        };
+    }
+
+    private Set<String> productionProfiles() {
+        Set<String> profiles = new LinkedHashSet<>();
+        for (String profile : (productionProfiles == null ? "prod" : productionProfiles).split(",")) {
+            if (!StringUtils.isBlank(profile)) {
+                profiles.add(profile.trim());
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * The settings of the main configuration file of a module, with the outermost packages of its controllers.
+     */
+    private static Map<String, String> settings(Accumulator acc, String module) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        List<String> packages = new ArrayList<>();
+        for (String pkg : acc.controllerPackages.getOrDefault(module, Collections.emptySet())) {
+            if (packages.isEmpty() || !pkg.startsWith(packages.get(packages.size() - 1) + ".")) {
+                packages.add(pkg);
+            }
+        }
+        if (!packages.isEmpty()) {
+            settings.put("springdoc.packages-to-scan", String.join(", ", packages));
+        }
+        return settings;
+    }
+
+    private static Properties.File add(Properties.File file, Map<String, String> settings, ExecutionContext ctx) {
+        Set<String> keys = new HashSet<>();
+        for (Properties.Content content : file.getContent()) {
+            if (content instanceof Properties.Entry) {
+                keys.add(canonical(((Properties.Entry) content).getKey()));
+            }
+        }
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, String> setting : settings.entrySet()) {
+            if (!keys.contains(canonical(setting.getKey()))) {
+                text.append(text.length() == 0 ? "" : "\n").append(setting.getKey()).append('=').append(setting.getValue());
+            }
+        }
+        if (text.length() == 0) {
+            return file;
+        }
+        List<Properties.Content> added = parseProperties(text.toString(), ctx).getContent();
+        if (!file.getContent().isEmpty()) {
+            added = ListUtils.mapFirst(added, content -> (Properties.Content) content.withPrefix("\n"));
+        }
+        return file.withContent(ListUtils.concatAll(file.getContent(), added));
+    }
+
+    private static Properties.File parseProperties(String text, ExecutionContext ctx) {
+        return new PropertiesParser().parse(ctx, text)
+                .findFirst()
+                .filter(Properties.File.class::isInstance)
+                .map(Properties.File.class::cast)
+                .orElseThrow(() -> new IllegalStateException("Unable to parse generated properties:\n" + text));
+    }
+
+    private static Yaml.Document add(Yaml.Document document, Map<String, String> settings, ExecutionContext ctx) {
+        Yaml.Block block = document.getBlock();
+        if (block instanceof Yaml.Scalar && ((Yaml.Scalar) block).getValue().isEmpty() && !settings.isEmpty()) {
+            // An empty document
+            return document.withBlock(parseYaml(yaml(settings), ctx));
+        }
+        if (!(block instanceof Yaml.Mapping) || ((Yaml.Mapping) block).getOpeningBracePrefix() != null) {
+            return document;
+        }
+        Yaml.Mapping mapping = (Yaml.Mapping) block;
+        for (Map.Entry<String, String> setting : settings.entrySet()) {
+            mapping = add(mapping, 0, Arrays.asList(setting.getKey().split("\\.")), setting.getValue(), ctx);
+        }
+        return document.withBlock(mapping);
+    }
+
+    /**
+     * Adds a setting to a block mapping whose entries are at the given column, unless it is already configured.
+     * The setting is nested under the longest of its key's prefixes that is already present, whether as
+     * nested mappings or as a dotted key, like {@code springdoc.api-docs:}.
+     */
+    private static Yaml.Mapping add(Yaml.Mapping mapping, int column, List<String> segments, String value, ExecutionContext ctx) {
+        for (int i = segments.size(); i > 0; i--) {
+            Yaml.Mapping.Entry entry = entry(mapping, String.join(".", segments.subList(0, i)));
+            if (entry == null) {
+                continue;
+            }
+            if (i < segments.size() && entry.getValue() instanceof Yaml.Mapping &&
+                ((Yaml.Mapping) entry.getValue()).getOpeningBracePrefix() == null) {
+                Yaml.Mapping nested = (Yaml.Mapping) entry.getValue();
+                Yaml.Mapping added = add(nested, column(nested, column + 2), segments.subList(i, segments.size()), value, ctx);
+                return added == nested ? mapping :
+                        mapping.withEntries(ListUtils.map(mapping.getEntries(), e -> e == entry ? e.withValue(added) : e));
+            }
+            // Already configured, or configured by a value this recipe doesn't edit
+            return mapping;
+        }
+        Map<String, String> setting = new LinkedHashMap<>();
+        setting.put(String.join(".", segments), value);
+        StringBuilder text = new StringBuilder();
+        for (String line : yaml(setting).split("\n")) {
+            text.append('\n').append(StringUtils.repeat(" ", column)).append(line);
+        }
+        List<Yaml.Mapping.Entry> entries = parseYaml(column == 0 ? text.substring(1) : "_:" + text, ctx).getEntries();
+        if (column == 0) {
+            entries = ListUtils.mapFirst(entries, e -> e.withPrefix("\n"));
+        } else {
+            entries = ((Yaml.Mapping) entries.get(0).getValue()).getEntries();
+        }
+        return mapping.withEntries(ListUtils.concatAll(mapping.getEntries(), entries));
+    }
+
+    private static Yaml.Mapping.@Nullable Entry entry(Yaml.Mapping mapping, String key) {
+        for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+            if (canonical(key).equals(canonical(entry.getKey().getValue()))) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static int column(Yaml.Mapping mapping, int start) {
+        String prefix = mapping.getEntries().get(0).getPrefix();
+        int lineBreak = prefix.lastIndexOf('\n');
+        return lineBreak < 0 ? start : prefix.length() - lineBreak - 1;
+    }
+
+    /**
+     * Nested block mappings for settings which are sorted, or at least grouped, by the prefixes of their keys.
+     */
+    private static String yaml(Map<String, String> settings) {
+        StringBuilder text = new StringBuilder();
+        List<String> previous = Collections.emptyList();
+        for (Map.Entry<String, String> setting : settings.entrySet()) {
+            List<String> segments = Arrays.asList(setting.getKey().split("\\."));
+            int common = 0;
+            while (common < Math.min(previous.size(), segments.size()) - 1 && previous.get(common).equals(segments.get(common))) {
+                common++;
+            }
+            for (int i = common; i < segments.size(); i++) {
+                text.append(StringUtils.repeat("  ", i)).append(segments.get(i)).append(':');
+                text.append(i == segments.size() - 1 ? " " + setting.getValue() + "\n" : "\n");
+            }
+            previous = segments;
+        }
+        return text.toString();
+    }
+
+    private static Yaml.Mapping parseYaml(String text, ExecutionContext ctx) {
+        return new YamlParser().parse(ctx, text)
+                .findFirst()
+                .filter(Yaml.Documents.class::isInstance)
+                .map(documents -> ((Yaml.Documents) documents).getDocuments().get(0).getBlock())
+                .filter(Yaml.Mapping.class::isInstance)
+                .map(Yaml.Mapping.class::cast)
+                .orElseThrow(() -> new IllegalStateException("Unable to parse generated YAML:\n" + text));
+    }
+
+    /**
+     * The profiles a document of an {@code application.yml} is activated in.
+     */
+    private static List<String> profiles(Yaml.Document document) {
+        List<String> profiles = new ArrayList<>();
+        for (String key : PROFILE_KEYS) {
+            Yaml.Block value = lookup(document.getBlock(), Arrays.asList(key.split("\\.")));
+            if (value instanceof Yaml.Scalar) {
+                for (String profile : ((Yaml.Scalar) value).getValue().split(",")) {
+                    if (!StringUtils.isBlank(profile)) {
+                        profiles.add(profile.trim());
+                    }
+                }
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * The value of a setting, whether its key is written as nested mappings, as a dotted key or as a mix of both.
+     */
+    private static Yaml.@Nullable Block lookup(Yaml.@Nullable Block block, List<String> segments) {
+        if (segments.isEmpty()) {
+            return block;
+        }
+        if (block instanceof Yaml.Mapping) {
+            for (int i = segments.size(); i > 0; i--) {
+                Yaml.Mapping.Entry entry = entry((Yaml.Mapping) block, String.join(".", segments.subList(0, i)));
+                if (entry != null) {
+                    return lookup(entry.getValue(), segments.subList(i, segments.size()));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The canonical form of a property name under Spring Boot's relaxed binding, so that {@code packagesToScan}
+     * and {@code packages-to-scan} are the same setting.
+     */
+    private static String canonical(String key) {
+        return key.replace("-", "").replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static @Nullable Matcher configFile(Path sourcePath, String module) {
+        String path = separatorsToUnix(sourcePath);
+        String name = module.isEmpty() ? path : path.substring(module.length() + 1);
+        if (!name.startsWith(RESOURCES)) {
+            return null;
+        }
+        Matcher matcher = CONFIG_FILE.matcher(name.substring(RESOURCES.length()));
+        return matcher.matches() ? matcher : null;
+    }
+
+    private static String resource(String module, String name) {
+        return module.isEmpty() ? RESOURCES + name : module + "/" + RESOURCES + name;
+    }
+
+    private static @Nullable String moduleDirectory(Path sourcePath) {
+        String path = separatorsToUnix(sourcePath);
+        if (path.startsWith("src/main/")) {
+            return "";
+        }
+        int main = path.indexOf("/src/main/");
+        return main < 0 ? null : path.substring(0, main);
+    }
+
+    private static String separatorsToUnix(Path path) {
+        return path.toString().replace('\\', '/');
+    }
+}
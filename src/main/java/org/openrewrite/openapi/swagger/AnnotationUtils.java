@@ -16,8 +16,11 @@
 package org.openrewrite.openapi.swagger;
 
 import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +30,16 @@ import static java.util.Collections.emptyMap;
 
 @UtilityClass
 class AnnotationUtils {
+    /**
+     * The fully qualified name of the attributed annotation type, or {@code null} if the type is unknown.
+     * Visitors handling more than one annotation type dispatch on this name with a single lookup,
+     * instead of trying an {@code AnnotationMatcher} per candidate type.
+     */
+    public static @Nullable String fullyQualifiedName(J.Annotation annotation) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        return type == null ? null : type.getFullyQualifiedName();
+    }
+
     public static Map<String, Expression> extractArgumentAssignedExpressions(J.Annotation annotation) {
         return extractArguments(annotation, J.Assignment::getAssignment);
     }
@@ -0,0 +1,625 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.openapi.table.ComposedApiResponses;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.requireNonNull;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ComposeRepeatedApiResponses extends ScanningRecipe<ComposeRepeatedApiResponses.Accumulator> {
+
+    private static final String FQN_API_RESPONSES = "io.swagger.v3.oas.annotations.responses.ApiResponses";
+    private static final String FQN_API_RESPONSE = "io.swagger.v3.oas.annotations.responses.ApiResponse";
+    private static final String COMPOSED_NAME = "CommonApiResponses";
+    private static final int DEFAULT_MINIMUM_OCCURRENCES = 3;
+
+    @Option(displayName = "Minimum occurrences",
+            description = "The number of methods of a package that must declare the same `@ApiResponses` for them to be " +
+                          "replaced with a composed annotation. Defaults to 3.",
+            example = "10",
+            required = false)
+    @Nullable
+    Integer minimumOccurrences;
+
+    transient ComposedApiResponses composedApiResponses = new ComposedApiResponses(this);
+
+    String displayName = "Compose repeated `@ApiResponses` into an annotation";
+
+    String description = "Replaces `@ApiResponses` annotations that are repeated on the methods of a package with a " +
+            "composed annotation, which is generated in that package and meta-annotated with the `@ApiResponses`. " +
+            "Two `@ApiResponses` are the same when they declare the same `@ApiResponse` annotations with the same " +
+            "attributes, in any order, and their constants and types are the same. Responses which refer to a private " +
+            "constant or to a type which can't be imported from the package are left as they are. A composed annotation " +
+            "which is already declared for a set of responses is reused, whatever the number of occurrences. " +
+            "The packages of a test source set reuse the composed annotations of the same package of the main source " +
+            "set, and don't generate one with a name that is already taken there.";
+
+    public static class Accumulator {
+        /**
+         * The packages by source root, as in {@code src/main/java}, and by package name within a source root.
+         */
+        final Map<String, Map<String, PackageResponses>> sourceRoots = new TreeMap<>();
+    }
+
+    static class PackageResponses {
+        /**
+         * The directory the composed annotations of the package are generated in.
+         */
+        final String directory;
+
+        /**
+         * The response sets by the canonical form of their responses.
+         */
+        final Map<List<String>, ResponseSet> sets = new HashMap<>();
+
+        /**
+         * The simple names of the types declared in the package.
+         */
+        final Set<String> typeNames = new HashSet<>();
+
+        PackageResponses(String directory) {
+            this.directory = directory;
+        }
+    }
+
+    static class ResponseSet {
+        final String packageName;
+        final List<String> responses;
+        final List<String> responseCodes;
+        final Set<String> imports;
+        int occurrences;
+        @Nullable String name;
+
+        ResponseSet(String packageName, List<String> responses, List<String> responseCodes, Set<String> imports) {
+            this.packageName = packageName;
+            this.responses = responses;
+            this.responseCodes = responseCodes;
+            this.imports = imports;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrumentScanner(new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                if (cu.getPackageDeclaration() == null) {
+                    return cu;
+                }
+                PackageResponses packageResponses = packageResponses(cu, acc);
+                for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                    packageResponses.typeNames.add(classDecl.getSimpleName());
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+                if (classDecl.getKind() == J.ClassDeclaration.Kind.Type.Annotation && classDecl.getType() != null &&
+                    cu.getClasses().contains(classDecl)) {
+                    // A composed annotation, possibly generated by a previous run
+                    for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                        ResponseSet set = responseSet(annotation, cu, acc);
+                        if (set != null) {
+                            set.name = classDecl.getSimpleName();
+                            metrics.matched();
+                        }
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+                for (J.Annotation annotation : method.getLeadingAnnotations()) {
+                    ResponseSet set = responseSet(annotation, cu, acc);
+                    if (set != null) {
+                        set.occurrences++;
+                        metrics.matched();
+                    }
+                }
+                // Responses are declared on methods, not in their bodies
+                return method;
+            }
+        });
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        int minimum = minimumOccurrences == null ? DEFAULT_MINIMUM_OCCURRENCES : minimumOccurrences;
+        List<SourceFile> generated = new ArrayList<>();
+        // The main source roots come first, so that the other source roots know the composed annotations of their packages
+        for (Map.Entry<String, Map<String, PackageResponses>> sourceRoot : acc.sourceRoots.entrySet()) {
+            if (mainSourceRoot(sourceRoot.getKey()) == null) {
+                for (PackageResponses packageResponses : sourceRoot.getValue().values()) {
+                    compose(packageResponses, null, minimum, generated, ctx);
+                }
+            }
+        }
+        for (Map.Entry<String, Map<String, PackageResponses>> sourceRoot : acc.sourceRoots.entrySet()) {
+            String mainSourceRoot = mainSourceRoot(sourceRoot.getKey());
+            if (mainSourceRoot != null) {
+                Map<String, PackageResponses> mainPackages = acc.sourceRoots.getOrDefault(mainSourceRoot, emptyMap());
+                for (Map.Entry<String, PackageResponses> packageResponses : sourceRoot.getValue().entrySet()) {
+                    compose(packageResponses.getValue(), mainPackages.get(packageResponses.getKey()), minimum, generated, ctx);
+                }
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Names the response sets of a package, generating a composed annotation for those repeated often enough. A set of
+     * a package which the same package of the main source set has a composed annotation for reuses that annotation.
+     */
+    private void compose(PackageResponses packageResponses, @Nullable PackageResponses main, int minimum,
+                         List<SourceFile> generated, ExecutionContext ctx) {
+        // The most repeated sets get the shortest names
+        List<Map.Entry<List<String>, ResponseSet>> sets = new ArrayList<>(packageResponses.sets.entrySet());
+        sets.sort(Comparator.comparingInt((Map.Entry<List<String>, ResponseSet> set) -> -set.getValue().occurrences)
+                .thenComparing(set -> set.getValue().responses.toString()));
+        for (Map.Entry<List<String>, ResponseSet> entry : sets) {
+            ResponseSet set = entry.getValue();
+            ResponseSet mainSet = main == null ? null : main.sets.get(entry.getKey());
+            String directory = packageResponses.directory;
+            boolean generate = false;
+            if (set.name == null && mainSet != null && mainSet.name != null) {
+                set.name = mainSet.name;
+                directory = main.directory;
+            } else if (set.name == null && set.occurrences >= Math.max(minimum, 2)) {
+                String name = COMPOSED_NAME;
+                for (int i = 2; packageResponses.typeNames.contains(name) || main != null && main.typeNames.contains(name); i++) {
+                    name = COMPOSED_NAME + i;
+                }
+                packageResponses.typeNames.add(name);
+                set.name = name;
+                generate = true;
+            }
+            if (set.name == null || set.occurrences == 0) {
+                continue;
+            }
+            Path sourcePath = Paths.get(directory).resolve(set.name + ".java");
+            if (generate) {
+                JavaParser.fromJavaVersion()
+                        .classpathFromResources(ctx, "swagger-annotations-2")
+                        .build()
+                        .parse(ctx, source(set))
+                        .map(sourceFile -> (SourceFile) sourceFile.withSourcePath(sourcePath))
+                        .forEach(generated::add);
+            }
+            composedApiResponses.insertRow(ctx, new ComposedApiResponses.Row(
+                    sourcePath.toString().replace('\\', '/'),
+                    set.packageName + "." + set.name,
+                    String.join(",", set.responseCodes),
+                    generate,
+                    set.occurrences));
+        }
+    }
+
+    private static String source(ResponseSet set) {
+        StringBuilder body = new StringBuilder("@ApiResponses({\n");
+        for (int i = 0; i < set.responses.size(); i++) {
+            body.append("        ").append(set.responses.get(i)).append(i < set.responses.size() - 1 ? ",\n" : "\n");
+        }
+        body.append("})\n");
+
+        Set<String> imports = new TreeSet<>();
+        Set<String> staticImports = new TreeSet<>();
+        imports.add(FQN_API_RESPONSE);
+        imports.add(FQN_API_RESPONSES);
+        for (String imp : set.imports) {
+            if (imp.startsWith("static ")) {
+                staticImports.add(imp);
+            } else {
+                imports.add(imp);
+            }
+        }
+        StringBuilder source = new StringBuilder("package ").append(set.packageName).append(";\n\n");
+        for (String imp : imports) {
+            source.append("import ").append(imp).append(";\n");
+        }
+        source.append("\nimport java.lang.annotation.ElementType;\n" +
+                      "import java.lang.annotation.Retention;\n" +
+                      "import java.lang.annotation.RetentionPolicy;\n" +
+                      "import java.lang.annotation.Target;\n");
+        if (!staticImports.isEmpty()) {
+            source.append('\n');
+            for (String imp : staticImports) {
+                source.append("import ").append(imp).append(";\n");
+            }
+        }
+        return source.append("\n@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})\n")
+                .append("@Retention(RetentionPolicy.RUNTIME)\n")
+                .append(body)
+                .append("public @interface ").append(set.name).append(" {\n}\n")
+                .toString();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+                J.MethodDeclaration m = method.withLeadingAnnotations(ListUtils.map(method.getLeadingAnnotations(), annotation -> {
+                    ResponseSet set = TypeUtils.isOfClassType(annotation.getType(), FQN_API_RESPONSES) ? lookup(annotation, cu, acc) : null;
+                    if (set == null || set.name == null) {
+                        return annotation;
+                    }
+                    metrics.annotationMatched(annotation);
+                    for (String imp : set.imports) {
+                        if (!imp.startsWith("static ") && !imp.endsWith(".*")) {
+                            maybeRemoveImport(imp);
+                        }
+                    }
+                    maybeRemoveImport(FQN_API_RESPONSES);
+                    maybeRemoveImport(FQN_API_RESPONSE);
+                    J.Identifier composed = new J.Identifier(Tree.randomId(), annotation.getAnnotationType().getPrefix(), Markers.EMPTY,
+                            emptyList(), set.name, JavaType.ShallowClass.build(set.packageName + "." + set.name), null);
+                    return annotation.withAnnotationType(composed).getPadding().withArguments(null);
+                }));
+                // Responses are declared on methods, not in their bodies
+                return m;
+            }
+        });
+    }
+
+    /**
+     * The response set of an `@ApiResponses` annotation, which is added to the accumulator if it is new.
+     */
+    private static @Nullable ResponseSet responseSet(J.Annotation annotation, J.CompilationUnit cu, Accumulator acc) {
+        if (!TypeUtils.isOfClassType(annotation.getType(), FQN_API_RESPONSES) || cu.getPackageDeclaration() == null) {
+            return null;
+        }
+        List<J.Annotation> responses = responses(annotation);
+        if (responses == null) {
+            return null;
+        }
+        Set<String> imports = new TreeSet<>();
+        List<String> canonical = canonical(responses, cu, imports);
+        if (canonical == null) {
+            return null;
+        }
+        Map<List<String>, ResponseSet> sets = packageResponses(cu, acc).sets;
+        ResponseSet set = sets.get(canonical);
+        if (set == null) {
+            List<String> printed = new ArrayList<>();
+            List<String> responseCodes = new ArrayList<>();
+            for (J.Annotation response : responses) {
+                printed.add(normalize(response.printTrimmed(new Cursor(null, Cursor.ROOT_VALUE))));
+                Expression responseCode = AnnotationUtils.extractArgumentAssignedExpressions(response).get("responseCode");
+                if (responseCode instanceof J.Literal && ((J.Literal) responseCode).getValue() != null) {
+                    responseCodes.add(String.valueOf(((J.Literal) responseCode).getValue()));
+                }
+            }
+            set = new ResponseSet(cu.getPackageDeclaration().getPackageName(), printed, responseCodes, imports);
+            sets.put(canonical, set);
+        }
+        return set;
+    }
+
+    private static @Nullable ResponseSet lookup(J.Annotation annotation, J.CompilationUnit cu, Accumulator acc) {
+        List<J.Annotation> responses = responses(annotation);
+        if (responses == null || cu.getPackageDeclaration() == null) {
+            return null;
+        }
+        String packageName = cu.getPackageDeclaration().getPackageName();
+        Map<String, PackageResponses> packages = acc.sourceRoots.get(sourceRoot(directory(cu.getSourcePath()), packageName));
+        PackageResponses packageResponses = packages == null ? null : packages.get(packageName);
+        List<String> canonical = packageResponses == null ? null : canonical(responses, cu, new TreeSet<>());
+        return canonical == null ? null : packageResponses.sets.get(canonical);
+    }
+
+    /**
+     * The response sets of the package of a source file, in its source root.
+     */
+    private static PackageResponses packageResponses(J.CompilationUnit cu, Accumulator acc) {
+        String packageName = requireNonNull(cu.getPackageDeclaration()).getPackageName();
+        String directory = directory(cu.getSourcePath());
+        return acc.sourceRoots.computeIfAbsent(sourceRoot(directory, packageName), r -> new TreeMap<>())
+                .computeIfAbsent(packageName, p -> new PackageResponses(directory));
+    }
+
+    /**
+     * The `@ApiResponse` annotations of an `@ApiResponses`, or {@code null} if it has other attributes or values.
+     */
+    private static @Nullable List<J.Annotation> responses(J.Annotation apiResponses) {
+        List<Expression> arguments = apiResponses.getArguments();
+        if (arguments == null || arguments.size() != 1) {
+            return null;
+        }
+        Expression value = arguments.get(0);
+        if (value instanceof J.Assignment) {
+            J.Assignment assignment = (J.Assignment) value;
+            if (!(assignment.getVariable() instanceof J.Identifier) ||
+                !"value".equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                return null;
+            }
+            value = assignment.getAssignment();
+        }
+        List<Expression> elements = value instanceof J.NewArray ? ((J.NewArray) value).getInitializer() : Collections.singletonList(value);
+        if (elements == null) {
+            return null;
+        }
+        List<J.Annotation> responses = new ArrayList<>();
+        for (Expression element : elements) {
+            if (element instanceof J.Empty) {
+                continue;
+            }
+            if (!(element instanceof J.Annotation) || !TypeUtils.isOfClassType(element.getType(), FQN_API_RESPONSE)) {
+                return null;
+            }
+            responses.add((J.Annotation) element);
+        }
+        return responses.isEmpty() ? null : responses;
+    }
+
+    /**
+     * The canonical form of a set of responses, which doesn't depend on the order of the responses, the order of their
+     * attributes or their formatting, and names the constants and types they refer to by their fully qualified names.
+     * The imports which the responses need are added to {@code imports}.
+     *
+     * @return {@code null} if the responses refer to a symbol which a composed annotation can't import.
+     */
+    private static @Nullable List<String> canonical(List<J.Annotation> responses, J.CompilationUnit cu, Set<String> imports) {
+        List<String> canonical = new ArrayList<>();
+        for (J.Annotation response : responses) {
+            List<String> attributes = attributes(response, cu, imports);
+            if (attributes == null) {
+                return null;
+            }
+            canonical.add(String.join(",", attributes));
+        }
+        Collections.sort(canonical);
+        return canonical;
+    }
+
+    private static @Nullable List<String> attributes(J.Annotation annotation, J.CompilationUnit cu, Set<String> imports) {
+        List<String> attributes = new ArrayList<>();
+        if (annotation.getArguments() != null) {
+            for (Expression argument : annotation.getArguments()) {
+                if (argument instanceof J.Empty) {
+                    continue;
+                }
+                String name = "value";
+                Expression value = argument;
+                if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier) {
+                    name = ((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName();
+                    value = ((J.Assignment) argument).getAssignment();
+                }
+                String canonical = canonical(value, cu, imports);
+                if (canonical == null) {
+                    return null;
+                }
+                attributes.add(name + "=" + canonical);
+            }
+        }
+        Collections.sort(attributes);
+        return attributes;
+    }
+
+    private static @Nullable String canonical(Expression value, J.CompilationUnit cu, Set<String> imports) {
+        if (value instanceof J.Literal) {
+            J.Literal literal = (J.Literal) value;
+            return literal.getValueSource() == null ? String.valueOf(literal.getValue()) : literal.getValueSource();
+        } else if (value instanceof J.Parentheses) {
+            J tree = ((J.Parentheses<?>) value).getTree();
+            String canonical = tree instanceof Expression ? canonical((Expression) tree, cu, imports) : null;
+            return canonical == null ? null : "(" + canonical + ")";
+        } else if (value instanceof J.Binary) {
+            J.Binary binary = (J.Binary) value;
+            String left = canonical(binary.getLeft(), cu, imports);
+            String right = canonical(binary.getRight(), cu, imports);
+            return left == null || right == null ? null : left + " " + binary.getOperator() + " " + right;
+        } else if (value instanceof J.NewArray) {
+            List<Expression> initializer = ((J.NewArray) value).getInitializer();
+            List<String> elements = new ArrayList<>();
+            for (Expression element : initializer == null ? Collections.<Expression>emptyList() : initializer) {
+                if (element instanceof J.Empty) {
+                    continue;
+                }
+                String canonical = canonical(element, cu, imports);
+                if (canonical == null) {
+                    return null;
+                }
+                elements.add(canonical);
+            }
+            return "{" + String.join(",", elements) + "}";
+        } else if (value instanceof J.Annotation) {
+            String type = type(((J.Annotation) value).getAnnotationType(), cu, imports);
+            List<String> attributes = attributes((J.Annotation) value, cu, imports);
+            return type == null || attributes == null ? null : "@" + type + "(" + String.join(",", attributes) + ")";
+        } else if (value instanceof J.FieldAccess && "class".equals(((J.FieldAccess) value).getSimpleName())) {
+            String type = type(((J.FieldAccess) value).getTarget(), cu, imports);
+            return type == null ? null : type + ".class";
+        } else if (value instanceof J.Identifier || value instanceof J.FieldAccess) {
+            return constant(value, cu, imports);
+        }
+        return null;
+    }
+
+    /**
+     * The fully qualified name of a type referred to by a response, or {@code null} if a composed annotation in the
+     * package of the source file can't refer to it by the same name, like a private type or a type nested in the
+     * class the responses are declared in.
+     */
+    private static @Nullable String type(Expression name, J.CompilationUnit cu, Set<String> imports) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(name.getType());
+        if (type == null || type.hasFlags(Flag.Private)) {
+            return null;
+        }
+        String fqn = type.getFullyQualifiedName().replace('$', '.');
+        if (name instanceof J.FieldAccess) {
+            // A qualified name needs its qualifier, unless that is a package
+            Expression qualifier = ((J.FieldAccess) name).getTarget();
+            if (qualifier.getType() instanceof JavaType.FullyQualified && type(qualifier, cu, imports) == null) {
+                return null;
+            }
+        } else if (type.getOwningClass() != null) {
+            // A nested type referred to by its simple name must be imported, rather than inherited or declared in scope
+            if (!imported(cu, false, fqn)) {
+                return null;
+            }
+            imports.add(fqn);
+        } else if (!type.getPackageName().equals(cu.getPackageDeclaration() == null ? "" :
+                cu.getPackageDeclaration().getPackageName()) && !"java.lang".equals(type.getPackageName())) {
+            imports.add(fqn);
+        }
+        return fqn;
+    }
+
+    /**
+     * The fully qualified name of a constant referred to by a response, or {@code null} if a composed annotation can't
+     * refer to it by the same name, like a private constant or a constant of the class the responses are declared in.
+     */
+    private static @Nullable String constant(Expression name, J.CompilationUnit cu, Set<String> imports) {
+        JavaType.Variable field = name instanceof J.FieldAccess ?
+                ((J.FieldAccess) name).getName().getFieldType() :
+                ((J.Identifier) name).getFieldType();
+        JavaType.FullyQualified owner = field == null ? null : TypeUtils.asFullyQualified(field.getOwner());
+        if (field == null || owner == null || field.hasFlags(Flag.Private)) {
+            return null;
+        }
+        String fqn = owner.getFullyQualifiedName().replace('$', '.') + "." + field.getName();
+        if (name instanceof J.FieldAccess) {
+            if (type(((J.FieldAccess) name).getTarget(), cu, imports) == null) {
+                return null;
+            }
+        } else if (imported(cu, true, fqn)) {
+            imports.add("static " + fqn);
+        } else {
+            return null;
+        }
+        return fqn;
+    }
+
+    /**
+     * Whether a source file imports a type, or a static member when {@code statik}, explicitly or on demand.
+     */
+    private static boolean imported(J.CompilationUnit cu, boolean statik, String fqn) {
+        for (J.Import imp : cu.getImports()) {
+            if (imp.isStatic() == statik) {
+                String imported = imp.getQualid().printTrimmed(new Cursor(null, Cursor.ROOT_VALUE));
+                String scope = fqn.substring(0, fqn.lastIndexOf('.') + 1);
+                if (imported.equals(fqn) || imported.equals(scope + "*")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collapses the whitespace and comments outside of string and character literals to a single space, except after
+     * an opening or before a closing bracket or a comma.
+     */
+    private static String normalize(String code) {
+        StringBuilder normalized = new StringBuilder();
+        boolean pendingSpace = false;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c == '"' || c == '\'') {
+                int end = i + 1;
+                while (end < code.length() && code.charAt(end) != c) {
+                    end += code.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end, code.length() - 1);
+                pendingSpace = append(normalized, pendingSpace, code.substring(i, end + 1));
+                i = end;
+            } else if (c == '/' && i + 1 < code.length() && (code.charAt(i + 1) == '/' || code.charAt(i + 1) == '*')) {
+                int end = code.charAt(i + 1) == '/' ? code.indexOf('\n', i) : code.indexOf("*/", i + 2) + 1;
+                i = end <= 0 ? code.length() : end;
+                pendingSpace = true;
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+            } else {
+                pendingSpace = append(normalized, pendingSpace, String.valueOf(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean append(StringBuilder normalized, boolean pendingSpace, String token) {
+        if (pendingSpace && normalized.length() > 0) {
+            char last = normalized.charAt(normalized.length() - 1);
+            boolean words = Character.isJavaIdentifierPart(last) && Character.isJavaIdentifierPart(token.charAt(0));
+            if (words || last != '(' && last != '{' && token.charAt(0) != ')' && token.charAt(0) != '}' &&
+                         token.charAt(0) != ',') {
+                normalized.append(' ');
+            }
+        }
+        normalized.append(token);
+        return false;
+    }
+
+    private static String directory(Path sourcePath) {
+        Path parent = sourcePath.getParent();
+        return parent == null ? "" : parent.toString().replace('\\', '/');
+    }
+
+    /**
+     * The directory of a source file without the directories of its package, as {@code src/main/java} for
+     * {@code src/main/java/com/example}, or the directory itself if it doesn't match the package.
+     */
+    private static String sourceRoot(String directory, String packageName) {
+        String packagePath = packageName.replace('.', '/');
+        if (directory.equals(packagePath)) {
+            return "";
+        }
+        return directory.endsWith("/" + packagePath) ? directory.substring(0, directory.length() - packagePath.length() - 1) : directory;
+    }
+
+    /**
+     * The main source root next to another source root, as {@code src/main/java} for {@code src/test/java}, or
+     * {@code null} for a main source root or a source root which isn't in a {@code src} directory.
+     */
+    private static @Nullable String mainSourceRoot(String sourceRoot) {
+        String path = "/" + sourceRoot + "/";
+        int src = path.lastIndexOf("/src/");
+        int end = src < 0 ? -1 : path.indexOf('/', src + 5);
+        if (end < 0 || "main".equals(path.substring(src + 5, end))) {
+            return null;
+        }
+        String main = path.substring(0, src + 5) + "main" + path.substring(end);
+        return main.substring(1, main.length() - 1);
+    }
+}
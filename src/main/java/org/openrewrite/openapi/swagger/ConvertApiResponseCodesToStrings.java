@@ -30,9 +30,11 @@ import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Statement;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @EqualsAndHashCode(callSuper = false)
 public class ConvertApiResponseCodesToStrings extends ScanningRecipe<ConvertApiResponseCodesToStrings.ConstantAccumulator> {
@@ -53,42 +55,51 @@ public class ConvertApiResponseCodesToStrings extends ScanningRecipe<ConvertApiR
 
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(ConstantAccumulator acc) {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrumentScanner(new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                // Constants that other source files can reference are only declared at class level,
+                // so there is no need to walk method bodies
+                return method;
+            }
+
             @Override
             public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
-                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
-                // Collect static final int fields with literal initializers
-                if (vd.hasModifier(J.Modifier.Type.Static) && vd.hasModifier(J.Modifier.Type.Final)) {
-                    JavaType type = vd.getType();
-                    if (type == JavaType.Primitive.Int || type == JavaType.Primitive.Long) {
-                        for (J.VariableDeclarations.NamedVariable var : vd.getVariables()) {
-                            if (var.getInitializer() instanceof J.Literal) {
-                                J.Literal literal = (J.Literal) var.getInitializer();
-                                if (literal.getValue() instanceof Number) {
-                                    JavaType.Variable varType = var.getVariableType();
-                                    if (varType != null && varType.getOwner() instanceof JavaType.FullyQualified) {
-                                        String key = ((JavaType.FullyQualified) varType.getOwner()).getFullyQualifiedName() + "." + var.getSimpleName();
-                                        acc.putConstant(key, String.valueOf(literal.getValue()));
-                                    }
-                                }
-                            }
+                // Nor the initializers of fields
+                J.VariableDeclarations vd = multiVariable;
+                // Private constants can only be referenced from their own source file, where the visitor
+                // resolves them, so only constants visible to other source files are kept across the run
+                if (!vd.hasModifier(J.Modifier.Type.Private)) {
+                    for (J.VariableDeclarations.NamedVariable var : vd.getVariables()) {
+                        String value = constantValue(vd, var);
+                        JavaType.Variable varType = var.getVariableType();
+                        if (value != null && varType != null && varType.getOwner() instanceof JavaType.FullyQualified) {
+                            String key = ((JavaType.FullyQualified) varType.getOwner()).getFullyQualifiedName() + "." + var.getSimpleName();
+                            acc.putConstant(key, value);
+                            metrics.matched();
                         }
                     }
                 }
                 return vd;
             }
-        };
+        });
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(ConstantAccumulator acc) {
-        return Preconditions.check(
-                new UsesType<>("io.swagger.v3.oas.annotations.responses.ApiResponse", true),
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
+                Preconditions.and(
+                        new UsesType<>("io.swagger.v3.oas.annotations.responses.ApiResponse", true),
+                        UsesApiResponseAttribute.nonStringResponseCode()
+                ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                         J.Annotation an = super.visitAnnotation(annotation, ctx);
                         if (ANNOTATION_MATCHER.matches(an)) {
+                            metrics.annotationMatched(an);
                             return an.withArguments(ListUtils.map(an.getArguments(), arg -> maybeReplaceResponseCodeTypeAndValue(arg, acc)));
                         }
                         return an;
@@ -149,29 +160,82 @@ public class ConvertApiResponseCodesToStrings extends ScanningRecipe<ConvertApiR
                     }
 
                     private @Nullable String resolveConstantValue(J.Identifier ident, ConstantAccumulator acc) {
-                        JavaType.Variable fieldType = ident.getFieldType();
-                        if (fieldType != null && fieldType.getOwner() instanceof JavaType.FullyQualified) {
-                            String key = ((JavaType.FullyQualified) fieldType.getOwner()).getFullyQualifiedName() + "." + ident.getSimpleName();
-                            return acc.getConstant(key);
-                        }
-                        return null;
+                        return resolveConstant(ident.getFieldType(), ident.getSimpleName(), acc);
                     }
 
                     private @Nullable String resolveFieldAccessValue(J.FieldAccess fieldAccess, ConstantAccumulator acc) {
-                        JavaType.Variable fieldType = fieldAccess.getName().getFieldType();
-                        if (fieldType != null && fieldType.getOwner() instanceof JavaType.FullyQualified) {
-                            String key = ((JavaType.FullyQualified) fieldType.getOwner()).getFullyQualifiedName() + "." + fieldAccess.getSimpleName();
-                            return acc.getConstant(key);
+                        return resolveConstant(fieldAccess.getName().getFieldType(), fieldAccess.getSimpleName(), acc);
+                    }
+
+                    private @Nullable String resolveConstant(JavaType.@Nullable Variable fieldType, String name, ConstantAccumulator acc) {
+                        if (fieldType == null || !(fieldType.getOwner() instanceof JavaType.FullyQualified)) {
+                            return null;
+                        }
+                        String owner = ((JavaType.FullyQualified) fieldType.getOwner()).getFullyQualifiedName();
+                        String value = acc.getConstant(owner + "." + name);
+                        if (value == null) {
+                            // Private constants are not accumulated, but are declared in this source file
+                            J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+                            if (cu != null) {
+                                value = findDeclaredConstant(cu.getClasses(), owner, name);
+                            }
+                        }
+                        return value;
+                    }
+                }
+        ));
+    }
+
+    private static @Nullable String findDeclaredConstant(List<? extends Statement> statements, String owner, String name) {
+        for (Statement statement : statements) {
+            if (!(statement instanceof J.ClassDeclaration)) {
+                continue;
+            }
+            J.ClassDeclaration classDecl = (J.ClassDeclaration) statement;
+            List<Statement> members = classDecl.getBody().getStatements();
+            if (classDecl.getType() != null && owner.equals(classDecl.getType().getFullyQualifiedName())) {
+                for (Statement member : members) {
+                    if (member instanceof J.VariableDeclarations) {
+                        J.VariableDeclarations vd = (J.VariableDeclarations) member;
+                        for (J.VariableDeclarations.NamedVariable var : vd.getVariables()) {
+                            if (name.equals(var.getSimpleName())) {
+                                return constantValue(vd, var);
+                            }
                         }
-                        return null;
                     }
                 }
-        );
+                return null;
+            }
+            String value = findDeclaredConstant(members, owner, name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The value of a static final int or long field with a literal initializer, or {@code null} for any other variable.
+     */
+    private static @Nullable String constantValue(J.VariableDeclarations vd, J.VariableDeclarations.NamedVariable var) {
+        if (vd.hasModifier(J.Modifier.Type.Static) && vd.hasModifier(J.Modifier.Type.Final)) {
+            JavaType type = vd.getType();
+            if ((type == JavaType.Primitive.Int || type == JavaType.Primitive.Long) && var.getInitializer() instanceof J.Literal) {
+                J.Literal literal = (J.Literal) var.getInitializer();
+                if (literal.getValue() instanceof Number) {
+                    return String.valueOf(literal.getValue());
+                }
+            }
+        }
+        return null;
     }
 
+    /**
+     * Filled by the scanner and read by the visitor, possibly for several source files at once.
+     */
     @Value
     public static class ConstantAccumulator {
-        Map<String, String> constants = new HashMap<>();
+        Map<String, String> constants = new ConcurrentHashMap<>();
 
         public void putConstant(String key, String value) {
             constants.put(key, value);
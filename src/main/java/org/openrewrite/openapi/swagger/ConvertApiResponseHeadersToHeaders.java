@@ -48,8 +48,12 @@ public class ConvertApiResponseHeadersToHeaders extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>("io.swagger.v3.oas.annotations.responses.ApiResponse", true),
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
+                Preconditions.and(
+                        new UsesType<>("io.swagger.v3.oas.annotations.responses.ApiResponse", true),
+                        UsesApiResponseAttribute.anyOf("responseHeaders")
+                ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
@@ -57,6 +61,7 @@ public class ConvertApiResponseHeadersToHeaders extends Recipe {
                         if (!ANNOTATION_MATCHER.matches(an) || an.getArguments() == null || !containsHeaders(an)) {
                             return an;
                         }
+                        metrics.annotationMatched(an);
 
                         StringBuilder result = new StringBuilder();
                         List<Expression> args = new ArrayList<>();
@@ -86,13 +91,13 @@ public class ConvertApiResponseHeadersToHeaders extends Recipe {
                         maybeRemoveImport(FQN_REPONSEHEADER);
                         maybeAddImport(FQN_HEADER);
                         maybeAddImport(FQN_SCHEMA);
-                        an = JavaTemplate.builder(result.toString())
-                                .imports(FQN_HEADER)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations"))
-                                .build()
-                                .apply(getCursor(), an.getCoordinates().replaceArguments(), args.toArray());
+                        an = metrics.apply(
+                                metrics.build(JavaTemplate.builder(result.toString())
+                                        .imports(FQN_HEADER)
+                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                                getCursor(), an.getCoordinates().replaceArguments(), args.toArray());
 
-                        return maybeAutoFormat(annotation, an, ctx, getCursor().getParentTreeCursor());
+                        return metrics.maybeAutoFormat(this, annotation, an, ctx, getCursor().getParentTreeCursor());
                     }
 
                     /**
@@ -191,7 +196,7 @@ public class ConvertApiResponseHeadersToHeaders extends Recipe {
                         return sb.insert(0, "@Header(").append(")").toString();
                     }
                 }
-        );
+        ));
     }
 
 }
@@ -49,8 +49,12 @@ public class ConvertApiResponseToContent extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>("io.swagger.v3.oas.annotations.responses.ApiResponse", true),
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
+                Preconditions.and(
+                        new UsesType<>("io.swagger.v3.oas.annotations.responses.ApiResponse", true),
+                        UsesApiResponseAttribute.anyOf("response", "responseContainer")
+                ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
@@ -85,14 +89,15 @@ public class ConvertApiResponseToContent extends Recipe {
                         if (maybeArgsWithoutResponse.size() >= an.getArguments().size()) {
                             return an;
                         }
+                        metrics.annotationMatched(an);
                         if (contentClass.get() == null) {
                             // `responseContainer` without `response` cannot form a content schema; drop it.
                             String args = StringUtils.repeat("#{any()}, ", maybeArgsWithoutResponse.size());
                             if (args.endsWith(", ")) {
                                 args = args.substring(0, args.length() - 2);
                             }
-                            an = JavaTemplate.apply(args, getCursor(), an.getCoordinates().replaceArguments(), maybeArgsWithoutResponse.toArray());
-                            return maybeAutoFormat(annotation, an, ctx, getCursor().getParentTreeCursor());
+                            an = metrics.apply(metrics.build(JavaTemplate.builder(args)), getCursor(), an.getCoordinates().replaceArguments(), maybeArgsWithoutResponse.toArray());
+                            return metrics.maybeAutoFormat(this, annotation, an, ctx, getCursor().getParentTreeCursor());
                         }
                         String inner;
                         String type = containerType.get() != null ? containerType.get().toString() : null;
@@ -110,22 +115,21 @@ public class ConvertApiResponseToContent extends Recipe {
                             inner = "schema = @Schema(implementation = #{any()}))";
                         }
                         String arguments = StringUtils.repeat("#{any()}, ", maybeArgsWithoutResponse.size());
-                        an = JavaTemplate.builder(arguments + "content = @Content(mediaType = \"application/json\", " + inner)
-                                .imports("io.swagger.v3.oas.annotations.media.*")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))
-                                .build()
-                                .apply(
-                                        getCursor(),
-                                        an.getCoordinates().replaceArguments(),
-                                        ListUtils.concat(maybeArgsWithoutResponse, contentClass.get()).toArray()
-                                );
+                        an = metrics.apply(
+                                metrics.build(JavaTemplate.builder(arguments + "content = @Content(mediaType = \"application/json\", " + inner)
+                                        .imports("io.swagger.v3.oas.annotations.media.*")
+                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                                getCursor(),
+                                an.getCoordinates().replaceArguments(),
+                                ListUtils.concat(maybeArgsWithoutResponse, contentClass.get()).toArray()
+                        );
                         maybeAddImport(FQN_CONTENT);
                         maybeAddImport(FQN_SCHEMA);
                         maybeAddImport(FQN_ARRAYSCHEMA);
 
-                        return maybeAutoFormat(annotation, an, ctx, getCursor().getParentTreeCursor());
+                        return metrics.maybeAutoFormat(this, annotation, an, ctx, getCursor().getParentTreeCursor());
                     }
                 }
-        );
+        ));
     }
 }
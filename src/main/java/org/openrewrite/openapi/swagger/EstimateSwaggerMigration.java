@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.openapi.table.SwaggerMigrationEstimates;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.openrewrite.openapi.swagger.AnnotationUtils.extractArgumentAssignedExpressions;
+import static org.openrewrite.openapi.swagger.AnnotationUtils.fullyQualifiedName;
+
+public class EstimateSwaggerMigration extends Recipe {
+
+    private static final String FQN_API_IGNORE = "springfox.documentation.annotations.ApiIgnore";
+    private static final String SWAGGER_TO_OPENAPI = "org.openrewrite.openapi.swagger.SwaggerToOpenAPI";
+    private static final String FQN_API_IMPLICIT_PARAM = "io.swagger.annotations.ApiImplicitParam";
+    private static final String FQN_PARAMETER = "io.swagger.v3.oas.annotations.Parameter";
+    private static final String FILE_ESTIMATES = "FILE_ESTIMATES";
+    private static final String RETEMPLATES_PARAMETERS = "RETEMPLATES_PARAMETERS";
+    private static final int TEMPLATE_COST = 10;
+
+    /**
+     * The recipe of {@code SwaggerToOpenAPI} that rewrites each top-level Swagger annotation.
+     * Annotations that are only ever nested in one of these are accounted for by their parent.
+     */
+    private static final Map<String, String> RECIPES = new HashMap<>();
+
+    static {
+        RECIPES.put("io.swagger.annotations.Api", "org.openrewrite.openapi.swagger.MigrateApiToTag");
+        RECIPES.put("io.swagger.annotations.ApiOperation", "org.openrewrite.openapi.swagger.MigrateApiOperationToOperation");
+        RECIPES.put("io.swagger.annotations.ApiResponses", "org.openrewrite.openapi.swagger.MigrateApiResponsesToApiResponses");
+        RECIPES.put("io.swagger.annotations.ApiResponse", "org.openrewrite.openapi.swagger.MigrateApiResponsesToApiResponses");
+        RECIPES.put("io.swagger.annotations.ApiImplicitParams", "org.openrewrite.openapi.swagger.MigrateApiImplicitParamsToParameters");
+        RECIPES.put(FQN_API_IMPLICIT_PARAM, "org.openrewrite.openapi.swagger.MigrateApiImplicitParamsToParameters");
+        RECIPES.put("io.swagger.annotations.ApiParam", "org.openrewrite.openapi.swagger.MigrateApiParamToParameter");
+        RECIPES.put("io.swagger.annotations.ApiModelProperty", "org.openrewrite.openapi.swagger.MigrateApiModelPropertyToSchema");
+        RECIPES.put("io.swagger.annotations.ApiModel", "org.openrewrite.openapi.swagger.MigrateApiModelToSchema");
+        RECIPES.put("io.swagger.annotations.SwaggerDefinition", "org.openrewrite.openapi.swagger.MigrateSwaggerDefinitionToOpenAPIDefinition");
+        RECIPES.put("io.swagger.annotations.Info", SWAGGER_TO_OPENAPI);
+        RECIPES.put(FQN_API_IGNORE, SWAGGER_TO_OPENAPI);
+    }
+
+    transient SwaggerMigrationEstimates estimates = new SwaggerMigrationEstimates(this);
+
+    @Getter
+    final String displayName = "Estimate the Swagger to OpenAPI migration";
+
+    @Getter
+    final String description = "A search-only preflight for `org.openrewrite.openapi.swagger.SwaggerToOpenAPI`. " +
+            "Reports, per source file and per migration recipe, the Swagger annotations that would be rewritten, " +
+            "the number of `JavaTemplate` applications this takes and a relative cost estimate. " +
+            "No templates are applied and the source files are left unchanged.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(
+                Preconditions.or(
+                        new UsesType<>("io.swagger.annotations.*", false),
+                        new UsesType<>(FQN_API_IGNORE, false)
+                ),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        Map<String, Estimate> fileEstimates = new LinkedHashMap<>();
+                        getCursor().putMessage(FILE_ESTIMATES, fileEstimates);
+                        getCursor().putMessage(RETEMPLATES_PARAMETERS, retemplatesParameters(cu));
+                        J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
+                        for (Estimate estimate : fileEstimates.values()) {
+                            estimates.insertRow(ctx, new SwaggerMigrationEstimates.Row(
+                                    cu.getSourcePath().toString(),
+                                    estimate.recipe,
+                                    estimate.annotationType,
+                                    estimate.annotations,
+                                    estimate.templateApplications,
+                                    estimate.annotations + TEMPLATE_COST * estimate.templateApplications
+                            ));
+                        }
+                        return c;
+                    }
+
+                    @Override
+                    public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                        J.Annotation an = super.visitAnnotation(annotation, ctx);
+                        String annotationType = fullyQualifiedName(an);
+                        if (FQN_PARAMETER.equals(annotationType) && getCursor().getNearestMessage(RETEMPLATES_PARAMETERS, false)) {
+                            // An existing `@Parameter` is not migrated, but re-templated along with the `@ApiImplicitParam`s
+                            Map<String, Estimate> fileEstimates = getCursor().getNearestMessage(FILE_ESTIMATES);
+                            if (fileEstimates != null) {
+                                String recipe = RECIPES.get(FQN_API_IMPLICIT_PARAM);
+                                fileEstimates.computeIfAbsent(recipe + " " + FQN_API_IMPLICIT_PARAM,
+                                        k -> new Estimate(recipe, FQN_API_IMPLICIT_PARAM)).templateApplications++;
+                            }
+                            return an;
+                        }
+                        if (annotationType == null || !RECIPES.containsKey(annotationType)) {
+                            return an;
+                        }
+
+                        int templateApplications = templateApplications(annotationType, an);
+                        String recipe = FQN_API_IGNORE.equals(annotationType) && templateApplications > 0 ?
+                                "org.openrewrite.openapi.swagger.MigrateApiIgnoreParameterToParameterHidden" :
+                                RECIPES.get(annotationType);
+
+                        Map<String, Estimate> fileEstimates = getCursor().getNearestMessage(FILE_ESTIMATES);
+                        if (fileEstimates != null) {
+                            Estimate estimate = fileEstimates.computeIfAbsent(recipe + " " + annotationType,
+                                    k -> new Estimate(recipe, annotationType));
+                            estimate.annotations++;
+                            estimate.templateApplications += templateApplications;
+                        }
+                        return an;
+                    }
+
+                    /**
+                     * Mirrors the conditions under which the migration recipes fall back to a {@code JavaTemplate}
+                     * rather than a plain type or attribute rename.
+                     */
+                    private int templateApplications(String annotationType, J.Annotation annotation) {
+                        Map<String, Expression> args = extractArgumentAssignedExpressions(annotation);
+                        int templates = 0;
+                        switch (annotationType) {
+                            case "io.swagger.annotations.Api":
+                                // `@Hidden`, `@SecurityRequirement(s)` and `@Tag(s)` are added by one combined template
+                                Expression hidden = args.get("hidden");
+                                if ((hidden != null && Boolean.parseBoolean(hidden.printTrimmed())) ||
+                                        args.containsKey("authorizations") || args.containsKey("tags")) {
+                                    templates++;
+                                }
+                                break;
+                            case "io.swagger.annotations.ApiResponse":
+                                if (args.containsKey("response") || args.containsKey("responseContainer")) {
+                                    templates++;
+                                }
+                                if (args.containsKey("responseHeaders")) {
+                                    templates++;
+                                }
+                                break;
+                            case FQN_API_IMPLICIT_PARAM:
+                                if (getCursor().getNearestMessage(RETEMPLATES_PARAMETERS, false)) {
+                                    templates++;
+                                }
+                                break;
+                            case "io.swagger.annotations.ApiParam":
+                                if (args.containsKey("defaultValue")) {
+                                    templates++;
+                                }
+                                if (args.containsKey("allowableValues")) {
+                                    templates++;
+                                }
+                                break;
+                            case "io.swagger.annotations.ApiModel":
+                                Expression reference = args.get("reference");
+                                if (reference instanceof J.Literal && ((J.Literal) reference).getValue() != null) {
+                                    String referenceValue = String.valueOf(((J.Literal) reference).getValue());
+                                    if (!referenceValue.contains("://") && !referenceValue.contains("#")) {
+                                        templates++;
+                                    }
+                                }
+                                break;
+                            case "io.swagger.annotations.SwaggerDefinition":
+                                templates++;
+                                break;
+                            case FQN_API_IGNORE:
+                                if (getCursor().getParentTreeCursor().getValue() instanceof J.VariableDeclarations &&
+                                        getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.MethodDeclaration) {
+                                    templates++;
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                        return templates;
+                    }
+                }
+        );
+    }
+
+    /**
+     * {@code MigrateApiImplicitParam} applies to files with an {@code @ApiImplicitParam} that has a {@code dataTypeClass}
+     * or {@code defaultValue}, and then re-templates every {@code @Parameter} of the file: the ones converted from
+     * {@code @ApiImplicitParam} as well as the ones that were already there.
+     */
+    private static boolean retemplatesParameters(J.CompilationUnit cu) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean found) {
+                if (FQN_API_IMPLICIT_PARAM.equals(fullyQualifiedName(annotation))) {
+                    Map<String, Expression> args = extractArgumentAssignedExpressions(annotation);
+                    if (args.containsKey("dataTypeClass") || args.containsKey("defaultValue")) {
+                        found.set(true);
+                    }
+                }
+                return super.visitAnnotation(annotation, found);
+            }
+        }.reduce(cu, new AtomicBoolean()).get();
+    }
+
+    @RequiredArgsConstructor
+    private static class Estimate {
+        final String recipe;
+        final String annotationType;
+        int annotations;
+        int templateApplications;
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.openapi.table.ModelHotSpots;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+public class FindModelHotSpots extends ScanningRecipe<FindModelHotSpots.Accumulator> {
+
+    private static final List<String> MODEL_ANNOTATIONS = Arrays.asList(
+            "io.swagger.annotations.ApiModel",
+            "io.swagger.v3.oas.annotations.media.Schema");
+
+    /**
+     * The annotation attributes that refer to the class of a schema, as in {@code @Schema(implementation = Pet.class)}
+     * or {@code @ApiOperation(response = Pet.class)}.
+     */
+    private static final List<String> REFERENCE_ATTRIBUTES = Arrays.asList("implementation", "response");
+
+    transient ModelHotSpots hotSpots = new ModelHotSpots(this);
+
+    @Getter
+    final String displayName = "Find spec generation hot spots in models";
+
+    @Getter
+    final String description = "A search recipe that builds the graph of the model classes that become schemas of the " +
+            "OpenAPI document: the classes annotated with `@ApiModel` or `@Schema`, the classes that `implementation` and " +
+            "`response` attributes refer to, and the classes of their properties. For each model class, it reports the " +
+            "number of properties, the fan-out, the depth of the graph below it, the size of the cycle of references it " +
+            "is part of and an estimated schema size, so that deep, recursive or very wide models can be cut with " +
+            "`@Schema(hidden = true)` or references. Model classes that are part of a cycle are marked. " +
+            "As a class without a model annotation becomes a model once a model refers to it, the scan records the " +
+            "property types of every class of the repository; the graph analysis then takes time linear in the number " +
+            "of model classes and references.";
+
+    public static class Accumulator {
+        final Map<String, ModelClass> classes = new HashMap<>();
+
+        /**
+         * The model classes that the graph is built from.
+         */
+        final Set<String> roots = new HashSet<>();
+
+        /**
+         * The size of the cycle of each model class that is part of one, filled once all source files are scanned.
+         */
+        final Map<String, Integer> cycles = new HashMap<>();
+    }
+
+    static class ModelClass {
+        final String sourcePath;
+        final Set<String> references = new LinkedHashSet<>();
+        int properties;
+
+        ModelClass(String sourcePath) {
+            this.sourcePath = sourcePath;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                JavaType.FullyQualified type = classDecl.getType();
+                // Every class is recorded, as a model may refer to a class of a source file that was already scanned
+                if (type != null) {
+                    ModelClass model = new ModelClass(getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString());
+                    acc.classes.put(type.getFullyQualifiedName(), model);
+                    for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                        for (String modelAnnotation : MODEL_ANNOTATIONS) {
+                            if (TypeUtils.isOfClassType(annotation.getType(), modelAnnotation)) {
+                                acc.roots.add(type.getFullyQualifiedName());
+                            }
+                        }
+                        references(annotation, model.references);
+                    }
+                    List<Statement> properties = new ArrayList<>(classDecl.getBody().getStatements());
+                    properties.addAll(classDecl.getPrimaryConstructor() == null ? emptyList() : classDecl.getPrimaryConstructor());
+                    for (Statement statement : properties) {
+                        if (statement instanceof J.VariableDeclarations && !((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                            J.VariableDeclarations property = (J.VariableDeclarations) statement;
+                            model.properties += property.getVariables().size();
+                            types(property.getType(), model.references);
+                            for (J.Annotation annotation : property.getLeadingAnnotations()) {
+                                references(annotation, model.references);
+                            }
+                        }
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                // The responses and request bodies of operations
+                for (J.Annotation annotation : method.getLeadingAnnotations()) {
+                    references(annotation, acc.roots);
+                }
+                for (Statement parameter : method.getParameters()) {
+                    if (parameter instanceof J.VariableDeclarations) {
+                        for (J.Annotation annotation : ((J.VariableDeclarations) parameter).getLeadingAnnotations()) {
+                            references(annotation, acc.roots);
+                        }
+                    }
+                }
+                // Models are not declared in method bodies
+                return method;
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                // Properties are read by the class declaration, and field initializers don't declare models
+                return multiVariable;
+            }
+        };
+    }
+
+    /**
+     * Adds the classes of a type, of its elements and of its type arguments, as in {@code Map<String, List<Pet>>}.
+     */
+    private static void types(@Nullable JavaType type, Set<String> references) {
+        if (type instanceof JavaType.Array) {
+            types(((JavaType.Array) type).getElemType(), references);
+        } else if (type instanceof JavaType.Parameterized) {
+            references.add(((JavaType.Parameterized) type).getFullyQualifiedName());
+            for (JavaType typeParameter : ((JavaType.Parameterized) type).getTypeParameters()) {
+                types(typeParameter, references);
+            }
+        } else if (type instanceof JavaType.Class) {
+            references.add(((JavaType.Class) type).getFullyQualifiedName());
+        } else if (type instanceof JavaType.GenericTypeVariable) {
+            for (JavaType bound : ((JavaType.GenericTypeVariable) type).getBounds()) {
+                types(bound, references);
+            }
+        }
+    }
+
+    /**
+     * Adds the classes of the {@link #REFERENCE_ATTRIBUTES} of an annotation and of the annotations nested in it.
+     */
+    private static void references(J.Annotation annotation, Set<String> references) {
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, Set<String> refs) {
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    REFERENCE_ATTRIBUTES.contains(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
+                    assignment.getAssignment() instanceof J.FieldAccess &&
+                    "class".equals(((J.FieldAccess) assignment.getAssignment()).getSimpleName())) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(((J.FieldAccess) assignment.getAssignment()).getTarget().getType());
+                    if (type != null) {
+                        refs.add(type.getFullyQualifiedName());
+                    }
+                }
+                return super.visitAssignment(assignment, refs);
+            }
+        }.reduce(annotation, references);
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        // The model classes reachable from the roots, in a deterministic order
+        List<String> nodes = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        Deque<String> queue = new ArrayDeque<>(new TreeSet<>(acc.roots));
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            ModelClass model = acc.classes.get(name);
+            if (model == null || ids.containsKey(name)) {
+                continue;
+            }
+            ids.put(name, nodes.size());
+            nodes.add(name);
+            queue.addAll(model.references);
+        }
+
+        int n = nodes.size();
+        int[][] edges = new int[n][];
+        boolean[] selfReference = new boolean[n];
+        for (int v = 0; v < n; v++) {
+            Set<Integer> targets = new LinkedHashSet<>();
+            for (String reference : acc.classes.get(nodes.get(v)).references) {
+                Integer w = ids.get(reference);
+                if (w != null) {
+                    targets.add(w);
+                    selfReference[v] |= w == v;
+                }
+            }
+            edges[v] = targets.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[] component = components(edges);
+        int components = 0;
+        for (int c : component) {
+            components = Math.max(components, c + 1);
+        }
+        int[] size = new int[components];
+        long[] properties = new long[components];
+        List<List<Integer>> members = new ArrayList<>();
+        for (int c = 0; c < components; c++) {
+            members.add(new ArrayList<>());
+        }
+        for (int v = 0; v < n; v++) {
+            size[component[v]]++;
+            properties[component[v]] += acc.classes.get(nodes.get(v)).properties;
+            members.get(component[v]).add(v);
+        }
+
+        // Components are numbered in reverse topological order, so the components a component refers to come first
+        int[] depth = new int[components];
+        long[] schemaSize = new long[components];
+        int[] seen = new int[components];
+        Arrays.fill(seen, -1);
+        for (int c = 0; c < components; c++) {
+            int deepest = 0;
+            long inlined = properties[c];
+            for (int v : members.get(c)) {
+                for (int w : edges[v]) {
+                    int d = component[w];
+                    if (d != c && seen[d] != c) {
+                        seen[d] = c;
+                        deepest = Math.max(deepest, depth[d]);
+                        inlined = inlined > Long.MAX_VALUE - schemaSize[d] ? Long.MAX_VALUE : inlined + schemaSize[d];
+                    }
+                }
+            }
+            depth[c] = deepest + 1;
+            schemaSize[c] = inlined;
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            order.add(v);
+        }
+        order.sort(Comparator.comparing(nodes::get));
+        for (int v : order) {
+            int c = component[v];
+            int cycleSize = size[c] > 1 || selfReference[v] ? size[c] : 0;
+            if (cycleSize > 0) {
+                acc.cycles.put(nodes.get(v), cycleSize);
+            }
+            ModelClass model = acc.classes.get(nodes.get(v));
+            hotSpots.insertRow(ctx, new ModelHotSpots.Row(
+                    model.sourcePath,
+                    nodes.get(v),
+                    model.properties,
+                    edges[v].length,
+                    depth[c],
+                    cycleSize,
+                    schemaSize[c]
+            ));
+        }
+        return emptyList();
+    }
+
+    /**
+     * The strongly connected components of a graph, numbered in the order Tarjan's algorithm completes them,
+     * which is a reverse topological order. The depth-first search keeps its own stack, so that long chains of
+     * references don't overflow the call stack.
+     */
+    private static int[] components(int[][] edges) {
+        int n = edges.length;
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] component = new int[n];
+        int[] next = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] frames = new int[n];
+        Arrays.fill(index, -1);
+        int counter = 0;
+        int top = 0;
+        int components = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            frames[depth++] = root;
+            index[root] = low[root] = counter++;
+            stack[top++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int v = frames[depth - 1];
+                if (next[v] < edges[v].length) {
+                    int w = edges[v][next[v]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[top++] = w;
+                        onStack[w] = true;
+                        frames[depth++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--top];
+                        onStack[w] = false;
+                        component[w] = components;
+                    } while (w != v);
+                    components++;
+                }
+                if (depth > 0) {
+                    int parent = frames[depth - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return component;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration c = super.visitClassDeclaration(classDecl, ctx);
+                Integer cycleSize = c.getType() == null ? null : acc.cycles.get(c.getType().getFullyQualifiedName());
+                return cycleSize == null ? c : SearchResult.found(c, cycleSize == 1 ?
+                        "Refers to itself" : "Part of a cycle of " + cycleSize + " model classes");
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                return method;
+            }
+        };
+    }
+}
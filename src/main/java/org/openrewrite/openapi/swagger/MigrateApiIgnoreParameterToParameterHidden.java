@@ -45,7 +45,8 @@ public class MigrateApiIgnoreParameterToParameterHidden extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(FQN_API_IGNORE, false), new JavaIsoVisitor<ExecutionContext>() {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(new UsesType<>(FQN_API_IGNORE, false), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                 J.Annotation a = super.visitAnnotation(annotation, ctx);
@@ -57,14 +58,15 @@ public class MigrateApiIgnoreParameterToParameterHidden extends Recipe {
                         !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.MethodDeclaration)) {
                     return a;
                 }
+                metrics.annotationMatched(a);
                 maybeRemoveImport(FQN_API_IGNORE);
                 maybeAddImport(FQN_PARAMETER);
-                return JavaTemplate.builder("@Parameter(hidden = true)")
-                        .imports(FQN_PARAMETER)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))
-                        .build()
-                        .apply(updateCursor(a), a.getCoordinates().replace());
+                return metrics.apply(
+                        metrics.build(JavaTemplate.builder("@Parameter(hidden = true)")
+                                .imports(FQN_PARAMETER)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                        updateCursor(a), a.getCoordinates().replace());
             }
-        });
+        }));
     }
 }
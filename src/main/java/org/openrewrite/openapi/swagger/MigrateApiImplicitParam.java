@@ -20,7 +20,6 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
@@ -32,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class MigrateApiImplicitParam extends Recipe {
+    private static final String FQN_PARAMETER = "io.swagger.v3.oas.annotations.Parameter";
     private static final String FQN_SCHEMA = "io.swagger.v3.oas.annotations.media.Schema";
 
     @Getter
@@ -43,7 +43,8 @@ public class MigrateApiImplicitParam extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         // This recipe is after ChangeType recipe
-        return Preconditions.check(
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
           Preconditions.or(
             new UsesMethod<>("io.swagger.annotations.ApiImplicitParam dataTypeClass()", false),
             new UsesMethod<>("io.swagger.annotations.ApiImplicitParam defaultValue()", false)
@@ -53,9 +54,10 @@ public class MigrateApiImplicitParam extends Recipe {
               public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                   J.Annotation anno = super.visitAnnotation(annotation, ctx);
 
-                  if (!new AnnotationMatcher("io.swagger.v3.oas.annotations.Parameter").matches(anno)) {
+                  if (!FQN_PARAMETER.equals(AnnotationUtils.fullyQualifiedName(anno))) {
                       return anno;
                   }
+                  metrics.annotationMatched(anno);
 
                   StringBuilder tpl = new StringBuilder();
                   StringBuilder schemaTpl = new StringBuilder();
@@ -86,13 +88,13 @@ public class MigrateApiImplicitParam extends Recipe {
                       tpl.append(", ").append(schemaTpl);
                       args.addAll(schemaArgs);
                   }
-                  anno = JavaTemplate.builder(tpl.toString())
-                    .imports(FQN_SCHEMA)
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))
-                    .build()
-                    .apply(updateCursor(anno), annotation.getCoordinates().replaceArguments(), args.toArray());
+                  anno = metrics.apply(
+                    metrics.build(JavaTemplate.builder(tpl.toString())
+                      .imports(FQN_SCHEMA)
+                      .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                    updateCursor(anno), annotation.getCoordinates().replaceArguments(), args.toArray());
                   maybeAddImport(FQN_SCHEMA, false);
-                  return maybeAutoFormat(annotation, anno, ctx, getCursor().getParentTreeCursor());
+                  return metrics.maybeAutoFormat(this, annotation, anno, ctx, getCursor().getParentTreeCursor());
               }
 
               private void addSchema(StringBuilder tpl, String key) {
@@ -110,6 +112,6 @@ public class MigrateApiImplicitParam extends Recipe {
                   return exp instanceof J.Assignment && "defaultValue".equals(((J.Identifier) ((J.Assignment) exp).getVariable()).getSimpleName());
               }
           }
-        );
+        ));
     }
 }
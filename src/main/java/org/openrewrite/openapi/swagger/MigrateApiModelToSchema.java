@@ -24,19 +24,16 @@ import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 import static org.openrewrite.openapi.swagger.AnnotationUtils.extractArgumentAssignments;
+import static org.openrewrite.openapi.swagger.AnnotationUtils.fullyQualifiedName;
 
 public class MigrateApiModelToSchema extends Recipe {
 
     private static final String API_MODEL_FQN = "io.swagger.annotations.ApiModel";
     private static final String SCHEMA_FQN = "io.swagger.v3.oas.annotations.media.Schema";
-
-    private static final AnnotationMatcher API_MODEL_MATCHER = new AnnotationMatcher(API_MODEL_FQN);
-    private static final AnnotationMatcher SCHEMA_MATCHER = new AnnotationMatcher(SCHEMA_FQN);
+    private static final String API_MODEL_ARGUMENTS = "API_MODEL_ARGUMENTS";
 
     @Getter
     final String displayName = "Migrate from `@ApiModel` to `@Schema`";
@@ -46,16 +43,37 @@ public class MigrateApiModelToSchema extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
             new UsesType<>(API_MODEL_FQN, false),
             new JavaIsoVisitor<ExecutionContext>() {
                 @Override
                 public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                     if (getCursor().getParent() != null && getCursor().getParent().getValue() instanceof J.ClassDeclaration) {
                         annotation = super.visitAnnotation(annotation, ctx);
-                        if (API_MODEL_MATCHER.matches(annotation)) {
-                            doAfterVisit(new ChangeAnnotationAttributeName(API_MODEL_FQN, "value", "name").getVisitor());
-                            doAfterVisit(new ChangeType(API_MODEL_FQN, SCHEMA_FQN, true).getVisitor());
+                        String annotationType = fullyQualifiedName(annotation);
+                        if (API_MODEL_FQN.equals(annotationType)) {
+                            metrics.annotationMatched(annotation);
+                            // The annotation is not converted in place: that leaves it with a `ShallowClass` type and
+                            // attribute identifiers without a method type, which the `implementation = X.class` template
+                            // can't be applied to. `ChangeType` attributes it properly, and the scheduled visitors convert
+                            // every `@ApiModel` of the file, so they are only scheduled once.
+                            Cursor compilationUnit = getCursor().dropParentUntil(J.CompilationUnit.class::isInstance);
+                            Set<UUID> apiModelArguments = compilationUnit.getMessage(API_MODEL_ARGUMENTS);
+                            if (apiModelArguments == null) {
+                                apiModelArguments = new HashSet<>();
+                                compilationUnit.putMessage(API_MODEL_ARGUMENTS, apiModelArguments);
+                                doAfterVisit(metrics.afterVisit(new ChangeAnnotationAttributeName(API_MODEL_FQN, "value", "name").getVisitor()));
+                                doAfterVisit(metrics.afterVisit(new ChangeType(API_MODEL_FQN, SCHEMA_FQN, true).getVisitor()));
+                                // Runs after `ChangeType`, so that the templates are applied to an attributed `@Schema`
+                                doAfterVisit(metrics.afterVisit(schemaAttributesVisitor(apiModelArguments, metrics)));
+                            }
+                            // The arguments keep their ids through `ChangeType` and when merged into an existing `@Schema`
+                            if (annotation.getArguments() != null) {
+                                for (Expression argument : annotation.getArguments()) {
+                                    apiModelArguments.add(argument.getId());
+                                }
+                            }
 
                             Map<String, J.Assignment> annotationAssignments = extractArgumentAssignments(annotation);
                             if (annotationAssignments.containsKey("value")) {
@@ -63,11 +81,8 @@ public class MigrateApiModelToSchema extends Recipe {
                                 annotationAssignments.put("name", value.withVariable(((J.Identifier) value.getVariable()).withSimpleName("name")));
                             }
 
-                            // Handle 'reference' attribute migration
-                            handleReferenceAttribute(annotationAssignments);
-
                             getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, API_MODEL_FQN, annotationAssignments);
-                        } else if (SCHEMA_MATCHER.matches(annotation)) {
+                        } else if (SCHEMA_FQN.equals(annotationType)) {
                             getCursor().putMessageOnFirstEnclosing(J.ClassDeclaration.class, SCHEMA_FQN, "USING SCHEMA ALREADY");
                         }
                     }
@@ -75,38 +90,6 @@ public class MigrateApiModelToSchema extends Recipe {
                     return annotation;
                 }
 
-                /**
-                 * Handle the 'reference' attribute from @ApiModel.
-                 * - If the value looks like a URL, rename to 'ref'
-                 * - If the value looks like a class name, schedule conversion to 'implementation = ClassName.class'
-                 */
-                private void handleReferenceAttribute(Map<String, J.Assignment> annotationAssignments) {
-                    if (!annotationAssignments.containsKey("reference")) {
-                        return;
-                    }
-
-                    J.Assignment referenceAssignment = annotationAssignments.get("reference");
-                    if (!(referenceAssignment.getAssignment() instanceof J.Literal)) {
-                        return; // Not a string literal, leave as-is (will likely fail compilation anyway)
-                    }
-                    J.Literal literal = (J.Literal) referenceAssignment.getAssignment();
-                    if (literal.getValue() == null) {
-                        return;
-                    }
-                    String referenceValue = literal.getValue().toString();
-                    if (referenceValue.contains("://") || referenceValue.contains("#")) {
-                        // It's a URL - rename 'reference' to 'ref'
-                        // Use SCHEMA_FQN because ChangeType runs before this, converting to @Schema
-                        doAfterVisit(new ChangeAnnotationAttributeName(SCHEMA_FQN, "reference", "ref").getVisitor());
-                    } else {
-                        // It's a class name - schedule a visitor to convert to 'implementation = ClassName.class'
-                        // This runs after ChangeType converts @ApiModel to @Schema
-                        doAfterVisit(typeReferenceVisitor(referenceValue));
-                    }
-                    // Remove from map so it won't be added again during merge
-                    annotationAssignments.remove("reference");
-                }
-
                 @Override
                 public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                     J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -119,13 +102,15 @@ public class MigrateApiModelToSchema extends Recipe {
                     boolean schemaAnnotationAlreadyPresent = getCursor().getMessage(SCHEMA_FQN) != null;
 
                     List<J.Annotation> newLeading = ListUtils.map(cd.getLeadingAnnotations(), annotation -> {
-                        if (schemaAnnotationAlreadyPresent && API_MODEL_MATCHER.matches(annotation)) {
+                        String annotationType = fullyQualifiedName(annotation);
+                        if (schemaAnnotationAlreadyPresent && API_MODEL_FQN.equals(annotationType)) {
                             return null;
                         }
-                        if (SCHEMA_MATCHER.matches(annotation)) {
+                        if (SCHEMA_FQN.equals(annotationType)) {
                             AnnotationUtils.extractArgumentAssignedExpressions(annotation).keySet().forEach(annotationAssignments::remove);
                             if (!annotationAssignments.isEmpty()) {
-                                return autoFormat(annotation.withArguments(ListUtils.concatAll(annotation.getArguments(), new ArrayList<>(annotationAssignments.values()))), ctx);
+                                // Format only the merged annotation, in the context of its class declaration
+                                return metrics.autoFormat(this, annotation.withArguments(ListUtils.concatAll(annotation.getArguments(), new ArrayList<>(annotationAssignments.values()))), ctx, getCursor());
                             }
                         }
                         return annotation;
@@ -133,31 +118,51 @@ public class MigrateApiModelToSchema extends Recipe {
                     return cd.withLeadingAnnotations(ListUtils.mapFirst(newLeading, annotation -> annotation.withPrefix(Space.EMPTY)));
                 }
             }
-        );
+        ));
     }
 
-    private JavaIsoVisitor<ExecutionContext> typeReferenceVisitor(String referenceValue) {
+    /**
+     * Migrates the attributes that came from `@ApiModel` and have no direct counterpart in `@Schema`:
+     * - The implicit "value" of `@ApiModel("Name")` becomes `name = "Name"`
+     * - A 'reference' that looks like a URL is renamed to 'ref'
+     * - A 'reference' that looks like a class name becomes 'implementation = ClassName.class'
+     */
+    private JavaIsoVisitor<ExecutionContext> schemaAttributesVisitor(Set<UUID> apiModelArguments, RecipeMetrics metrics) {
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                 J.Annotation ann = super.visitAnnotation(annotation, ctx);
-                if (!SCHEMA_MATCHER.matches(ann) || ann.getArguments() == null) {
+                if (!SCHEMA_FQN.equals(fullyQualifiedName(ann)) || ann.getArguments() == null ||
+                        !(getCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
                     return ann;
                 }
 
-                // Replace the 'reference' attribute with 'implementation = ClassName.class'
                 return ann.withArguments(ListUtils.map(ann.getArguments(), arg -> {
-                    if (arg instanceof J.Assignment) {
-                        J.Assignment assign = (J.Assignment) arg;
-                        if (assign.getVariable() instanceof J.Identifier &&
-                                "reference".equals(((J.Identifier) assign.getVariable()).getSimpleName())) {
-                            return JavaTemplate.builder("implementation = " + referenceValue + ".class")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))
-                                    .build()
-                                    .apply(new Cursor(getCursor(), arg), arg.getCoordinates().replace());
-                        }
+                    if (arg instanceof J.Empty || !apiModelArguments.contains(arg.getId())) {
+                        return arg;
+                    }
+                    if (!(arg instanceof J.Assignment)) {
+                        return metrics.apply(
+                                metrics.build(JavaTemplate.builder("name = #{any(String)}")
+                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                                new Cursor(getCursor(), arg), arg.getCoordinates().replace(), arg);
+                    }
+                    J.Assignment assign = (J.Assignment) arg;
+                    if (!(assign.getVariable() instanceof J.Identifier) ||
+                            !"reference".equals(((J.Identifier) assign.getVariable()).getSimpleName()) ||
+                            !(assign.getAssignment() instanceof J.Literal) ||
+                            ((J.Literal) assign.getAssignment()).getValue() == null) {
+                        // Not a string literal, leave as-is (will likely fail compilation anyway)
+                        return arg;
+                    }
+                    String referenceValue = String.valueOf(((J.Literal) assign.getAssignment()).getValue());
+                    if (referenceValue.contains("://") || referenceValue.contains("#")) {
+                        return assign.withVariable(((J.Identifier) assign.getVariable()).withSimpleName("ref"));
                     }
-                    return arg;
+                    return metrics.apply(
+                            metrics.build(JavaTemplate.builder("implementation = " + referenceValue + ".class")
+                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                            new Cursor(getCursor(), arg), arg.getCoordinates().replace());
                 }));
             }
         };
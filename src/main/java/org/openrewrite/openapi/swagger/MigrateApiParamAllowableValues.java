@@ -15,28 +15,40 @@
  */
 package org.openrewrite.openapi.swagger;
 
-import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.search.UsesMethod;
 
+@Value
+@EqualsAndHashCode(callSuper = false)
 public class MigrateApiParamAllowableValues extends Recipe {
 
     private static final String VBLE_NAME = "allowableValues";
 
-    @Getter
-    final String displayName = "Migrate `@ApiParam(allowableValues)` to `@Parameter(schema)`";
+    @Option(displayName = "Use enum implementation",
+            description = "When the allowable values are exactly the constants of the enum type of the annotated parameter " +
+                          "or field, use `@Schema(implementation = TheEnum.class)` instead of repeating them as `allowableValues`.",
+            required = false)
+    @Nullable
+    Boolean enumImplementation;
 
-    @Getter
-    final String description = "Migrate `@ApiParam(allowableValues)` to `@Parameter(schema = @Schema(allowableValues))`.";
+    String displayName = "Migrate `@ApiParam(allowableValues)` to `@Parameter(schema)`";
+
+    String description = "Migrate `@ApiParam(allowableValues)` to `@Parameter(schema = @Schema(allowableValues))`, " +
+            "or optionally to `@Parameter(schema = @Schema(implementation))` for the values of an enum.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         // This recipe is after ChangeType recipe
-        return Preconditions.check(
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
                 new UsesMethod<>("io.swagger.annotations.ApiParam allowableValues()", false),
-                new MigrateApiParamSchemaValue(VBLE_NAME));
+                new MigrateApiParamSchemaValue(VBLE_NAME, metrics, Boolean.TRUE.equals(enumImplementation))));
     }
 }
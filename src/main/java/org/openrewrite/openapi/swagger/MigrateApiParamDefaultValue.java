@@ -34,8 +34,9 @@ public class MigrateApiParamDefaultValue extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         // This recipe is after ChangeType recipe
-        return Preconditions.check(
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
                 new UsesMethod<>("io.swagger.annotations.ApiParam defaultValue()", false),
-                new MigrateApiParamSchemaValue(VBLE_NAME));
+                new MigrateApiParamSchemaValue(VBLE_NAME, metrics)));
     }
 }
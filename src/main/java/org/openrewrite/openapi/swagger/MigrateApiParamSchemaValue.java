@@ -22,13 +22,14 @@ import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.*;
 import org.openrewrite.java.tree.J.Annotation;
 import org.openrewrite.java.tree.J.Assignment;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class that can be used for migrating values of the <code>ApiParam</code> annotation
@@ -40,6 +41,17 @@ class MigrateApiParamSchemaValue extends JavaIsoVisitor<ExecutionContext> {
     private static final AnnotationMatcher PARAMETER_ANNOTATION_MATCHER = new AnnotationMatcher("io.swagger.v3.oas.annotations.Parameter");
 
     private final String attribute;
+    private final RecipeMetrics metrics;
+
+    /**
+     * Whether values that are exactly the constants of the enum type of the annotated parameter or field are
+     * replaced with that enum as the schema <code>implementation</code>.
+     */
+    private final boolean enumImplementation;
+
+    MigrateApiParamSchemaValue(String attribute, RecipeMetrics metrics) {
+        this(attribute, metrics, false);
+    }
 
     @Override
     public Annotation visitAnnotation(Annotation annotation, ExecutionContext ctx) {
@@ -47,17 +59,25 @@ class MigrateApiParamSchemaValue extends JavaIsoVisitor<ExecutionContext> {
         if (!PARAMETER_ANNOTATION_MATCHER.matches(a)) {
             return a;
         }
+        metrics.annotationMatched(a);
 
         StringBuilder tpl = new StringBuilder();
         List<Expression> args = new ArrayList<>();
 
         SchemaInfo schemaInfo = new SchemaInfo();
+        boolean contextSensitive = false;
 
         for (Expression exp : a.getArguments()) {
             if (isAttributeAssignment(exp)) {
                 Expression expression = ((J.Assignment) exp).getAssignment();
-                String schema = createSchema(attribute);
-                schemaInfo.genSchema(schema, expression);
+                String enumType = enumImplementation ? enumType(expression) : null;
+                if (enumType != null) {
+                    // The enum is referred to as in the source, so the template is compiled in its context
+                    schemaInfo.genSchema(String.format("schema = @Schema(implementation = %s.class ", enumType), null);
+                    contextSensitive = true;
+                } else {
+                    schemaInfo.genSchema(createSchema(attribute), expression);
+                }
             } else {
                 if (isSchemaAssignment(exp)) {
                     schemaInfo.existingSchema((Assignment) exp);
@@ -74,12 +94,57 @@ class MigrateApiParamSchemaValue extends JavaIsoVisitor<ExecutionContext> {
         }
 
         maybeAddImport(FQN_SCHEMA, false);
-        a = JavaTemplate.builder(tpl.toString())
+        JavaTemplate.Builder template = JavaTemplate.builder(tpl.toString())
                 .imports(FQN_SCHEMA)
-                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))
-                .build()
-                .apply(updateCursor(a), annotation.getCoordinates().replaceArguments(), args.toArray());
-        return maybeAutoFormat(annotation, a, ctx, getCursor().getParentTreeCursor());
+                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"));
+        a = metrics.apply(
+                metrics.build(contextSensitive ? template.contextSensitive() : template),
+                updateCursor(a), annotation.getCoordinates().replaceArguments(), args.toArray());
+        return metrics.maybeAutoFormat(this, annotation, a, ctx, getCursor().getParentTreeCursor());
+    }
+
+    /**
+     * Finds the enum type of the annotated parameter or field, if its constants are exactly the given values
+     *
+     * @param values the comma separated values, or the array of values, being migrated
+     * @return the enum type as it is written in the declaration, or <code>null</code> if the values don't match its constants
+     */
+    private @Nullable String enumType(Expression values) {
+        Object parent = getCursor().getParentTreeCursor().getValue();
+        if (!(parent instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        TypeTree typeExpression = ((J.VariableDeclarations) parent).getTypeExpression();
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(((J.VariableDeclarations) parent).getType());
+        if (type == null || type.getKind() != JavaType.FullyQualified.Kind.Enum ||
+                !(typeExpression instanceof J.Identifier || typeExpression instanceof J.FieldAccess)) {
+            return null;
+        }
+
+        Set<String> constants = new HashSet<>();
+        for (JavaType.Variable member : type.getMembers()) {
+            // Only the enum constants, not other static fields of the enum type
+            if (member.hasFlags(Flag.Enum)) {
+                constants.add(member.getName());
+            }
+        }
+        List<String> allowableValues = new ArrayList<>();
+        if (values instanceof J.Literal && ((J.Literal) values).getValue() instanceof String) {
+            for (String value : ((String) ((J.Literal) values).getValue()).split(",")) {
+                allowableValues.add(value.trim());
+            }
+        } else if (values instanceof J.NewArray && ((J.NewArray) values).getInitializer() != null) {
+            for (Expression value : ((J.NewArray) values).getInitializer()) {
+                if (!(value instanceof J.Literal) || !(((J.Literal) value).getValue() instanceof String)) {
+                    return null;
+                }
+                allowableValues.add(((String) ((J.Literal) value).getValue()).trim());
+            }
+        }
+        if (constants.isEmpty() || allowableValues.size() != constants.size() || !constants.equals(new HashSet<>(allowableValues))) {
+            return null;
+        }
+        return typeExpression.printTrimmed(getCursor());
     }
 
     /**
@@ -130,7 +195,7 @@ class MigrateApiParamSchemaValue extends JavaIsoVisitor<ExecutionContext> {
         private @Nullable String schemaStr;
         private J.@Nullable Assignment existingSchemaExpr;
 
-        private void genSchema(String schemaStr, Expression schemaExpr) {
+        private void genSchema(String schemaStr, @Nullable Expression schemaExpr) {
             this.schemaExpr = schemaExpr;
             this.schemaStr = schemaStr;
         }
@@ -159,7 +224,9 @@ class MigrateApiParamSchemaValue extends JavaIsoVisitor<ExecutionContext> {
                     }
                 }
                 tpl.append(")");
-                args.add(schemaExpr);
+                if (schemaExpr != null) {
+                    args.add(schemaExpr);
+                }
             }
         }
     }
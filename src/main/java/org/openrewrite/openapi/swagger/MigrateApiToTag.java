@@ -16,12 +16,13 @@
 package org.openrewrite.openapi.swagger;
 
 import lombok.Getter;
-import org.intellij.lang.annotations.Language;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
@@ -29,8 +30,10 @@ import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.J.Annotation;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparing;
@@ -47,86 +50,6 @@ public class MigrateApiToTag extends Recipe {
     private static final String FQN_SECURITY_REQ = "io.swagger.v3.oas.annotations.security.SecurityRequirement";
     private static final String FQN_SECURITY_REQS = "io.swagger.v3.oas.annotations.security.SecurityRequirements";
 
-    @Language("java")
-    private static final String HIDDEN_CLASS =
-        "package io.swagger.v3.oas.annotations;\n" +
-                "import java.lang.annotation.Retention;\n" +
-                "import java.lang.annotation.RetentionPolicy;\n" +
-                "import java.lang.annotation.Target;\n" +
-                "import static java.lang.annotation.ElementType.ANNOTATION_TYPE;\n" +
-                "import static java.lang.annotation.ElementType.TYPE;\n" +
-                "import static java.lang.annotation.ElementType.FIELD;\n" +
-                "import static java.lang.annotation.ElementType.METHOD;\n" +
-                "@Target({METHOD, TYPE, FIELD, ANNOTATION_TYPE})\n" +
-                "@Retention(RetentionPolicy.RUNTIME)\n" +
-                "public @interface Hidden {}";
-
-    @Language("java")
-    private static final String SECURITY_REQ_CLASS =
-        "package io.swagger.v3.oas.annotations.security;\n" +
-            "import java.lang.annotation.Inherited;\n" +
-            "import java.lang.annotation.Repeatable;\n" +
-            "import java.lang.annotation.Retention;\n" +
-            "import java.lang.annotation.RetentionPolicy;\n" +
-            "import java.lang.annotation.Target;\n" +
-            "import static java.lang.annotation.ElementType.ANNOTATION_TYPE;\n" +
-            "import static java.lang.annotation.ElementType.TYPE;\n" +
-            "import static java.lang.annotation.ElementType.METHOD;\n" +
-            "@Target({METHOD, TYPE, ANNOTATION_TYPE})\n" +
-            "@Retention(RetentionPolicy.RUNTIME)\n" +
-            "@Repeatable(SecurityRequirements.class)\n" +
-            "@Inherited\n" +
-            "public @interface SecurityRequirement {\n" +
-            "    String name();\n" +
-            "    String[] scopes() default {};\n" +
-            "}";
-
-    @Language("java")
-    private static final String SECURITY_REQS_CLASS =
-        "package io.swagger.v3.oas.annotations.security;\n" +
-            "import java.lang.annotation.Inherited;\n" +
-            "import java.lang.annotation.Retention;\n" +
-            "import java.lang.annotation.RetentionPolicy;\n" +
-            "import java.lang.annotation.Target;\n" +
-            "import static java.lang.annotation.ElementType.ANNOTATION_TYPE;\n" +
-            "import static java.lang.annotation.ElementType.TYPE;\n" +
-            "import static java.lang.annotation.ElementType.METHOD;\n" +
-            "@Target({METHOD, TYPE, ANNOTATION_TYPE})\n" +
-            "@Retention(RetentionPolicy.RUNTIME)\n" +
-            "@Inherited\n" +
-            "public @interface SecurityRequirements {\n" +
-            "    SecurityRequirement[] value() default {};\n" +
-            "}";
-
-    @Language("java")
-    private static final String TAGS_CLASS =
-        "package io.swagger.v3.oas.annotations.tags;\n" +
-            "import java.lang.annotation.ElementType;\n" +
-            "import java.lang.annotation.Retention;\n" +
-            "import java.lang.annotation.RetentionPolicy;\n" +
-            "import java.lang.annotation.Target;\n" +
-            "@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})\n" +
-            "@Retention(RetentionPolicy.RUNTIME)\n" +
-            "public @interface Tags {\n" +
-            "    Tag[] value() default {};\n" +
-            "}";
-
-    @Language("java")
-    private static final String TAG_CLASS =
-        "package io.swagger.v3.oas.annotations.tags;\n" +
-            "import java.lang.annotation.ElementType;\n" +
-            "import java.lang.annotation.Repeatable;\n" +
-            "import java.lang.annotation.Retention;\n" +
-            "import java.lang.annotation.RetentionPolicy;\n" +
-            "import java.lang.annotation.Target;\n" +
-            "@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})\n" +
-            "@Retention(RetentionPolicy.RUNTIME)\n" +
-            "@Repeatable(Tags.class)\n" +
-            "public @interface Tag {\n" +
-            "    String name();\n" +
-            "    String description() default \"\";\n" +
-            "}";
-
     @Getter
     final String displayName = "Migrate from `@Api` to `@Tag`";
 
@@ -135,7 +58,8 @@ public class MigrateApiToTag extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
             new UsesType<>(FQN_API, false),
             new JavaIsoVisitor<ExecutionContext>() {
                 private final AnnotationMatcher apiMatcher = new AnnotationMatcher(FQN_API);
@@ -144,10 +68,11 @@ public class MigrateApiToTag extends Recipe {
                 public J.@Nullable Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                     J.Annotation ann = super.visitAnnotation(annotation, ctx);
                     if (apiMatcher.matches(ann)) {
-                        doAfterVisit(new ChangeAnnotationAttributeName(FQN_API, "value", "name").getVisitor());
-                        doAfterVisit(new RemoveAnnotationAttribute(FQN_API, "hidden").getVisitor());
-                        doAfterVisit(new RemoveAnnotationAttribute(FQN_API, "produces").getVisitor());
-                        doAfterVisit(new RemoveAnnotationAttribute(FQN_API, "authorizations").getVisitor());
+                        metrics.annotationMatched(ann);
+                        doAfterVisit(metrics.afterVisit(new ChangeAnnotationAttributeName(FQN_API, "value", "name").getVisitor()));
+                        doAfterVisit(metrics.afterVisit(new RemoveAnnotationAttribute(FQN_API, "hidden").getVisitor()));
+                        doAfterVisit(metrics.afterVisit(new RemoveAnnotationAttribute(FQN_API, "produces").getVisitor()));
+                        doAfterVisit(metrics.afterVisit(new RemoveAnnotationAttribute(FQN_API, "authorizations").getVisitor()));
 
                         Map<String, Expression> annoAssignments = AnnotationUtils.extractArgumentAssignedExpressions(ann);
                         if (annoAssignments.containsKey("tags") || annoAssignments.containsKey("hidden") || annoAssignments.containsKey("authorizations")) {
@@ -170,16 +95,18 @@ public class MigrateApiToTag extends Recipe {
                         return cd;
                     }
 
+                    // All class level annotations derived from `@Api` are added by a single template application,
+                    // in the order `@Hidden`, `@SecurityRequirement(s)`, `@Tag(s)`
+                    StringBuilder template = new StringBuilder();
+                    List<Expression> templateArgs = new ArrayList<>();
+                    Set<String> imports = new LinkedHashSet<>();
+
                     Expression hiddenAssignment = annoArguments.get("hidden");
                     if (hiddenAssignment != null) {
                         boolean hidden = Boolean.parseBoolean(hiddenAssignment.printTrimmed());
                         if (hidden) {
-                            maybeAddImport(FQN_HIDDEN, false);
-                            cd = JavaTemplate.builder("@Hidden")
-                                .imports(FQN_HIDDEN)
-                                .javaParser(JavaParser.fromJavaVersion().dependsOn(HIDDEN_CLASS))
-                                .build()
-                                .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
+                            template.append("@Hidden\n");
+                            imports.add(FQN_HIDDEN);
                         }
                     }
 
@@ -189,12 +116,12 @@ public class MigrateApiToTag extends Recipe {
                             J.NewArray newArray = (J.NewArray) authAssignment;
                             List<Expression> initializer = requireNonNull(newArray.getInitializer());
                             if (initializer.size() == 1 && (initializer.get(0) instanceof J.Annotation)) {
-                                cd = addSecurityRequirementAnnotation(cd, (Annotation) initializer.get(0));
+                                appendSecurityRequirementAnnotation((Annotation) initializer.get(0), template, templateArgs, imports);
                             } else {
-                               cd = addSecurityRequirementsAnnotation(cd, initializer);
+                                appendSecurityRequirementsAnnotation(initializer, template, templateArgs, imports);
                             }
                         } else if (authAssignment instanceof J.Annotation){
-                            cd = addSecurityRequirementAnnotation(cd, (Annotation) authAssignment);
+                            appendSecurityRequirementAnnotation((Annotation) authAssignment, template, templateArgs, imports);
                         }
                     }
 
@@ -205,75 +132,87 @@ public class MigrateApiToTag extends Recipe {
                         J.NewArray newArray = (J.NewArray) tagsAssignment;
                         List<Expression> initializer = requireNonNull(newArray.getInitializer());
                         if (initializer.size() == 1) {
-                            cd = addTagAnnotation(cd, initializer.get(0), descAssignment);
+                            appendTagAnnotation(initializer.get(0), descAssignment, template, templateArgs, imports);
                         } else {
-                            cd = addTagsAnnotation(cd, initializer, descAssignment);
+                            appendTagsAnnotation(initializer, descAssignment, template, templateArgs, imports);
                         }
                     } else if (tagsAssignment != null) {
-                        cd = addTagAnnotation(cd, tagsAssignment, descAssignment);
+                        appendTagAnnotation(tagsAssignment, descAssignment, template, templateArgs, imports);
+                    }
+
+                    if (template.length() == 0) {
+                        return cd;
                     }
 
-                    return maybeAutoFormat(classDecl, cd, cd.getName(), ctx, getCursor().getParentTreeCursor());
+                    for (String fqn : imports) {
+                        maybeAddImport(fqn, false);
+                    }
+                    cd = metrics.apply(
+                        metrics.build(JavaTemplate.builder(template.toString().trim())
+                            .imports(imports.toArray(new String[0]))
+                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                        updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)), templateArgs.toArray());
+
+                    // Only the leading annotations derived from `@Api` can have changed, so format just those
+                    // rather than the whole class declaration
+                    Cursor classCursor = updateCursor(cd);
+                    List<J.Annotation> originalAnnotations = classDecl.getLeadingAnnotations();
+                    return cd.withLeadingAnnotations(ListUtils.map(cd.getLeadingAnnotations(), a ->
+                        isOriginal(originalAnnotations, a) ? a : metrics.autoFormat(this, a, ctx, classCursor)));
                 }
 
-                private J.ClassDeclaration addTagsAnnotation(J.ClassDeclaration cd, List<Expression> tagsAssignments, @Nullable Expression descAssignment) {
+                private boolean isOriginal(List<J.Annotation> originalAnnotations, J.Annotation annotation) {
+                    for (J.Annotation original : originalAnnotations) {
+                        if (original == annotation) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                private void appendTagsAnnotation(List<Expression> tagsAssignments, @Nullable Expression descAssignment,
+                                                  StringBuilder template, List<Expression> templateArgs, Set<String> imports) {
                     // Create template for @Tags annotation
-                    StringBuilder template = new StringBuilder("@Tags({");
-                    List<Expression> templateArgs = new ArrayList<>();
-                    for (Expression expression : tagsAssignments) {
-                        if (!templateArgs.isEmpty()) {
+                    template.append("@Tags({");
+                    for (int i = 0; i < tagsAssignments.size(); i++) {
+                        if (i > 0) {
                             template.append(",");
                         }
                         template.append("\n@Tag(name = #{any()}");
-                        templateArgs.add(expression);
+                        templateArgs.add(tagsAssignments.get(i));
                         if (descAssignment != null) {
                             template.append(", description = #{any()}");
                             templateArgs.add(descAssignment);
                         }
                         template.append(")");
                     }
-                    template.append("\n})");
-
-                    // Add formatted template and imports
-                    maybeAddImport(FQN_TAG);
-                    maybeAddImport(FQN_TAGS);
-                    return JavaTemplate.builder(template.toString())
-                        .imports(FQN_TAGS, FQN_TAG)
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(TAGS_CLASS, TAG_CLASS))
-                        .build()
-                        .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)), templateArgs.toArray());
+                    template.append("\n})\n");
+                    imports.add(FQN_TAGS);
+                    imports.add(FQN_TAG);
                 }
 
-                private J.ClassDeclaration addTagAnnotation(J.ClassDeclaration cd, Expression tagsAssignment, @Nullable Expression descAssignment) {
-                    // Create template for @Tags annotation
-                    StringBuilder template = new StringBuilder("@Tag(name = #{any()}");
-                    List<Expression> templateArgs = new ArrayList<>();
+                private void appendTagAnnotation(Expression tagsAssignment, @Nullable Expression descAssignment,
+                                                 StringBuilder template, List<Expression> templateArgs, Set<String> imports) {
+                    // Create template for @Tag annotation
+                    template.append("@Tag(name = #{any()}");
                     templateArgs.add(tagsAssignment);
                     if (descAssignment != null) {
                         template.append(", description = #{any()}");
                         templateArgs.add(descAssignment);
                     }
-                    template.append(")");
-
-                    // Add formatted template and imports
-                    maybeAddImport(FQN_TAG);
-                    return JavaTemplate.builder(template.toString())
-                        .imports(FQN_TAG)
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(TAGS_CLASS, TAG_CLASS))
-                        .build()
-                        .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)), templateArgs.toArray());
+                    template.append(")\n");
+                    imports.add(FQN_TAG);
                 }
 
-                private J.ClassDeclaration addSecurityRequirementsAnnotation(J.ClassDeclaration cd, List<Expression> authsAssignment) {
+                private void appendSecurityRequirementsAnnotation(List<Expression> authsAssignment,
+                                                                  StringBuilder template, List<Expression> templateArgs, Set<String> imports) {
                     // Create template for @SecurityRequirements annotation
-                    StringBuilder template = new StringBuilder("@SecurityRequirements({");
-                    List<Expression> templateArgs = new ArrayList<>();
-
-                    for (Expression expression : authsAssignment) {
-                        if (!templateArgs.isEmpty()) {
+                    template.append("@SecurityRequirements({");
+                    for (int i = 0; i < authsAssignment.size(); i++) {
+                        if (i > 0) {
                             template.append(", ");
                         }
-                        J.Annotation authAnnotation = (Annotation) expression;
+                        J.Annotation authAnnotation = (Annotation) authsAssignment.get(i);
                         template.append("@SecurityRequirement(name = #{any()}");
 
                         Map<String, J.Assignment> authAssignments = AnnotationUtils.extractArgumentAssignments(authAnnotation);
@@ -286,42 +225,28 @@ public class MigrateApiToTag extends Recipe {
                         }
                         template.append(")");
                     }
-                    template.append("})");
+                    template.append("})\n");
 
-                    // Add formatted template and imports
                     maybeRemoveImport(FQN_AUTHORIZATION);
-                    maybeAddImport(FQN_SECURITY_REQS);
-                    maybeAddImport(FQN_SECURITY_REQ);
-                    return JavaTemplate.builder(template.toString())
-                            .imports(FQN_SECURITY_REQS, FQN_SECURITY_REQ)
-                            .javaParser(JavaParser.fromJavaVersion().dependsOn(SECURITY_REQS_CLASS, SECURITY_REQ_CLASS))
-                            .build()
-                            .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)), templateArgs.toArray());
+                    imports.add(FQN_SECURITY_REQS);
+                    imports.add(FQN_SECURITY_REQ);
                 }
 
-                private J.ClassDeclaration addSecurityRequirementAnnotation(J.ClassDeclaration cd, J.Annotation authAnnotation) {
+                private void appendSecurityRequirementAnnotation(J.Annotation authAnnotation,
+                                                                 StringBuilder template, List<Expression> templateArgs, Set<String> imports) {
                     // Create template for @SecurityRequirement annotation
                     Map<String, J.Assignment> authAssignments = AnnotationUtils.extractArgumentAssignments(authAnnotation);
-                    StringBuilder template = new StringBuilder("@SecurityRequirement(name = #{any()}");
-
-                    List<Expression> templateArgs = new ArrayList<>();
-
+                    template.append("@SecurityRequirement(name = #{any()}");
                     templateArgs.add(authAssignments.get("value").getAssignment());
 
                     if (authAssignments.containsKey("scopes")) {
                         Expression scopesExpression = authAssignments.get("scopes").getAssignment();
                         processScopes(scopesExpression, template, templateArgs);
                     }
-                    template.append(")");
+                    template.append(")\n");
 
-                    // Add formatted template and imports
                     maybeRemoveImport(FQN_AUTHORIZATION);
-                    maybeAddImport(FQN_SECURITY_REQ);
-                    return JavaTemplate.builder(template.toString())
-                            .imports(FQN_SECURITY_REQ)
-                            .javaParser(JavaParser.fromJavaVersion().dependsOn(SECURITY_REQS_CLASS, SECURITY_REQ_CLASS))
-                            .build()
-                            .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)), templateArgs.toArray());
+                    imports.add(FQN_SECURITY_REQ);
                 }
 
                 private void processScopes(Expression scopesExpression, StringBuilder template, List<Expression> templateArgs) {
@@ -354,7 +279,7 @@ public class MigrateApiToTag extends Recipe {
                     return scopeAssignments.get("scope").getAssignment();
                 }
             }
-        );
+        ));
     }
 
     @Override
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.intellij.lang.annotations.Language;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+@EqualsAndHashCode(callSuper = false)
+public class MigrateBeanConfigToSwaggerConfiguration extends ScanningRecipe<MigrateBeanConfigToSwaggerConfiguration.Accumulator> {
+
+    private static final String FQN_BEAN_CONFIG = "io.swagger.jaxrs.config.BeanConfig";
+    private static final String FQN_SWAGGER_CONFIGURATION = "io.swagger.v3.oas.integration.SwaggerConfiguration";
+    private static final String FQN_CONFIGURATION_EXCEPTION = "io.swagger.v3.oas.integration.OpenApiConfigurationException";
+    private static final String FQN_CONTEXT_BUILDER = "io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder";
+    private static final String FQN_OPEN_API = "io.swagger.v3.oas.models.OpenAPI";
+    private static final String FQN_INFO = "io.swagger.v3.oas.models.info.Info";
+    private static final String FQN_CONTACT = "io.swagger.v3.oas.models.info.Contact";
+    private static final String FQN_LICENSE = "io.swagger.v3.oas.models.info.License";
+    private static final String FQN_SERVER = "io.swagger.v3.oas.models.servers.Server";
+    private static final List<String> FQN_PATHS = Arrays.asList("javax.ws.rs.Path", "jakarta.ws.rs.Path");
+    private static final List<String> FQN_DEFINITIONS = Arrays.asList(
+            "io.swagger.v3.oas.annotations.OpenAPIDefinition", "io.swagger.annotations.SwaggerDefinition");
+
+    /**
+     * The `BeanConfig` setters of the `Info` object, and the `Info` method each of them maps to.
+     */
+    private static final Map<String, String> INFO_SETTERS = new LinkedHashMap<>();
+
+    static {
+        INFO_SETTERS.put("setTitle", "title");
+        INFO_SETTERS.put("setDescription", "description");
+        INFO_SETTERS.put("setTermsOfServiceUrl", "termsOfService");
+        INFO_SETTERS.put("setVersion", "version");
+    }
+
+    private static final Set<String> SUPPORTED_SETTERS = new HashSet<>(Arrays.asList(
+            "setTitle", "setDescription", "setTermsOfServiceUrl", "setVersion", "setContact", "setLicense", "setLicenseUrl",
+            "setSchemes", "setHost", "setBasePath", "setResourcePackage", "setPrettyPrint", "setScan"));
+
+    @Language("java")
+    private static final String[] SWAGGER_JAXRS2_CLASSES = {
+            "package io.swagger.v3.oas.models.info;\n" +
+            "public class Contact {\n" +
+            "    public Contact name(String name) { return this; }\n" +
+            "}",
+            "package io.swagger.v3.oas.models.info;\n" +
+            "public class License {\n" +
+            "    public License name(String name) { return this; }\n" +
+            "    public License url(String url) { return this; }\n" +
+            "}",
+            "package io.swagger.v3.oas.models.info;\n" +
+            "public class Info {\n" +
+            "    public Info title(String title) { return this; }\n" +
+            "    public Info description(String description) { return this; }\n" +
+            "    public Info termsOfService(String termsOfService) { return this; }\n" +
+            "    public Info contact(Contact contact) { return this; }\n" +
+            "    public Info license(License license) { return this; }\n" +
+            "    public Info version(String version) { return this; }\n" +
+            "}",
+            "package io.swagger.v3.oas.models.servers;\n" +
+            "public class Server {\n" +
+            "    public Server url(String url) { return this; }\n" +
+            "}",
+            "package io.swagger.v3.oas.models;\n" +
+            "import io.swagger.v3.oas.models.info.Info;\n" +
+            "import io.swagger.v3.oas.models.servers.Server;\n" +
+            "import java.util.List;\n" +
+            "public class OpenAPI {\n" +
+            "    public OpenAPI info(Info info) { return this; }\n" +
+            "    public OpenAPI servers(List<Server> servers) { return this; }\n" +
+            "}",
+            "package io.swagger.v3.oas.integration.api;\n" +
+            "public interface OpenAPIConfiguration {}",
+            "package io.swagger.v3.oas.integration.api;\n" +
+            "public interface OpenApiContext {}",
+            "package io.swagger.v3.oas.integration;\n" +
+            "public class OpenApiConfigurationException extends Exception {}",
+            "package io.swagger.v3.oas.integration;\n" +
+            "import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;\n" +
+            "import io.swagger.v3.oas.models.OpenAPI;\n" +
+            "import java.util.Set;\n" +
+            "public class SwaggerConfiguration implements OpenAPIConfiguration {\n" +
+            "    public SwaggerConfiguration openAPI(OpenAPI openAPI) { return this; }\n" +
+            "    public SwaggerConfiguration resourcePackages(Set<String> resourcePackages) { return this; }\n" +
+            "    public SwaggerConfiguration resourceClasses(Set<String> resourceClasses) { return this; }\n" +
+            "    public SwaggerConfiguration readAllResources(Boolean readAllResources) { return this; }\n" +
+            "    public SwaggerConfiguration prettyPrint(Boolean prettyPrint) { return this; }\n" +
+            "}",
+            "package io.swagger.v3.jaxrs2.integration;\n" +
+            "import io.swagger.v3.oas.integration.OpenApiConfigurationException;\n" +
+            "import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;\n" +
+            "import io.swagger.v3.oas.integration.api.OpenApiContext;\n" +
+            "public class JaxrsOpenApiContextBuilder<T extends JaxrsOpenApiContextBuilder<T>> {\n" +
+            "    public T openApiConfiguration(OpenAPIConfiguration openApiConfiguration) { return null; }\n" +
+            "    public OpenApiContext buildContext(boolean init) throws OpenApiConfigurationException { return null; }\n" +
+            "}"
+    };
+
+    @Getter
+    final String displayName = "Migrate `BeanConfig` to `SwaggerConfiguration`";
+
+    @Getter
+    final String description = "Replaces a Swagger 1.x `io.swagger.jaxrs.config.BeanConfig` that is set up with setters with a " +
+            "swagger-jaxrs2 `SwaggerConfiguration`, and `setScan(true)` with a `JaxrsOpenApiContextBuilder` that builds " +
+            "the OpenAPI context. When the JAX-RS resources of the `setResourcePackage(..)` packages are found among the " +
+            "main sources, and none of the classes of those packages come from the classpath, they are listed as " +
+            "`resourceClasses` with the classes declaring an `@OpenAPIDefinition` or `@SwaggerDefinition`, so that no " +
+            "packages are scanned on startup. Otherwise the packages become `resourcePackages`. The configuration is set to `readAllResources(false)` and " +
+            "`prettyPrint(false)`. A `BeanConfig` with other setters, or which is used after it is set up, is left unchanged.";
+
+    public static class Accumulator {
+        /**
+         * The JAX-RS root resource classes of the main sources, by package.
+         */
+        final Map<String, Set<String>> resources = new HashMap<>();
+
+        /**
+         * The classes of the main sources declaring an `@OpenAPIDefinition` or `@SwaggerDefinition`, by package.
+         */
+        final Map<String, Set<String>> definitions = new HashMap<>();
+
+        /**
+         * The packages of the classpath of the main source sets, whose classes are not all known.
+         */
+        final Set<String> classpathPackages = new HashSet<>();
+        final Set<UUID> sourceSets = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrumentScanner(new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Optional<JavaSourceSet> sourceSet = cu.getMarkers().findFirst(JavaSourceSet.class);
+                if (cu.getPackageDeclaration() == null || sourceSet.map(s -> "test".equals(s.getName())).orElse(false)) {
+                    return cu;
+                }
+                if (sourceSet.isPresent() && acc.sourceSets.add(sourceSet.get().getId())) {
+                    for (JavaType.FullyQualified type : sourceSet.get().getClasspath()) {
+                        acc.classpathPackages.add(type.getPackageName());
+                    }
+                }
+                String packageName = cu.getPackageDeclaration().getPackageName();
+                for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                    if (classDecl.getType() != null && isAnnotated(classDecl, FQN_PATHS)) {
+                        acc.resources.computeIfAbsent(packageName, p -> new TreeSet<>()).add(classDecl.getType().getFullyQualifiedName());
+                        metrics.matched();
+                    } else if (classDecl.getType() != null && isAnnotated(classDecl, FQN_DEFINITIONS)) {
+                        acc.definitions.computeIfAbsent(packageName, p -> new TreeSet<>()).add(classDecl.getType().getFullyQualifiedName());
+                        metrics.matched();
+                    }
+                }
+                // Root resources and definitions are declared by the annotations of top level classes
+                return cu;
+            }
+
+            private boolean isAnnotated(J.ClassDeclaration classDecl, List<String> annotationTypes) {
+                for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                    for (String annotationType : annotationTypes) {
+                        if (TypeUtils.isOfClassType(annotation.getType(), annotationType)) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+        });
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(new UsesType<>(FQN_BEAN_CONFIG, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                List<Statement> statements = b.getStatements();
+                for (int i = 0; i < statements.size(); i++) {
+                    J.VariableDeclarations declaration = declaration(statements.get(i));
+                    if (declaration == null) {
+                        continue;
+                    }
+                    String name = declaration.getVariables().get(0).getSimpleName();
+                    Map<String, Expression> setters = new HashMap<>();
+                    J.MethodInvocation scan = null;
+                    Set<Statement> removed = new HashSet<>();
+                    int end = i + 1;
+                    for (; end < statements.size(); end++) {
+                        J.MethodInvocation setter = setter(statements.get(end), name);
+                        if (setter == null) {
+                            break;
+                        }
+                        setters.put(setter.getSimpleName(), setter.getArguments().get(0));
+                        if ("setScan".equals(setter.getSimpleName())) {
+                            scan = setter;
+                        } else {
+                            removed.add(setter);
+                        }
+                    }
+                    metrics.matched();
+                    if (!SUPPORTED_SETTERS.containsAll(setters.keySet()) || isReferenced(statements.subList(end, statements.size()), name)) {
+                        continue;
+                    }
+                    List<Object> args = new ArrayList<>();
+                    String configuration = configuration(setters, args);
+                    Boolean scanned = scan == null ? Boolean.FALSE : booleanValue(scan.getArguments().get(0));
+                    if (configuration == null || scanned == null) {
+                        continue;
+                    }
+                    if (!scanned && scan != null) {
+                        removed.add(scan);
+                    }
+
+                    String modifiers = declaration.hasModifier(J.Modifier.Type.Final) ? "final " : "";
+                    J.VariableDeclarations swaggerConfiguration = metrics.apply(
+                            metrics.build(JavaTemplate.builder(modifiers + "SwaggerConfiguration " + name + " = " + configuration + ";")
+                                    .imports(FQN_SWAGGER_CONFIGURATION, FQN_OPEN_API, FQN_INFO, FQN_CONTACT, FQN_LICENSE, FQN_SERVER,
+                                            "java.util.Arrays", "java.util.HashSet")
+                                    .javaParser(JavaParser.fromJavaVersion().dependsOn(SWAGGER_JAXRS2_CLASSES))),
+                            new Cursor(updateCursor(b), declaration), declaration.getCoordinates().replace(), args.toArray());
+                    J.Block migrated = b.withStatements(ListUtils.map(b.getStatements(), s -> removed.contains(s) ? null :
+                            s == declaration ? swaggerConfiguration : s));
+                    J.VariableDeclarations formattedConfiguration = metrics.autoFormat(this, swaggerConfiguration, ctx, updateCursor(migrated));
+                    b = migrated.withStatements(ListUtils.map(migrated.getStatements(), s -> s == swaggerConfiguration ? formattedConfiguration : s));
+
+                    if (scanned) {
+                        J.MethodInvocation scanCall = scan;
+                        J.Try buildContext = metrics.apply(
+                                metrics.build(JavaTemplate.builder(
+                                                "try {\n" +
+                                                "    new JaxrsOpenApiContextBuilder()\n" +
+                                                "            .openApiConfiguration(" + name + ")\n" +
+                                                "            .buildContext(true);\n" +
+                                                "} catch (OpenApiConfigurationException e) {\n" +
+                                                "    throw new IllegalStateException(e.getMessage(), e);\n" +
+                                                "}")
+                                        .imports(FQN_CONTEXT_BUILDER, FQN_CONFIGURATION_EXCEPTION)
+                                        .javaParser(JavaParser.fromJavaVersion().dependsOn(SWAGGER_JAXRS2_CLASSES))),
+                                new Cursor(updateCursor(b), scanCall), scanCall.getCoordinates().replace());
+                        J.Try formatted = metrics.autoFormat(this, buildContext, ctx, updateCursor(b));
+                        b = b.withStatements(ListUtils.map(b.getStatements(), s -> s == scanCall ? formatted : s));
+                        maybeAddImport(FQN_CONTEXT_BUILDER);
+                        maybeAddImport(FQN_CONFIGURATION_EXCEPTION);
+                    }
+
+                    maybeRemoveImport(FQN_BEAN_CONFIG);
+                    maybeAddImport(FQN_SWAGGER_CONFIGURATION);
+                    maybeAddImport(FQN_OPEN_API);
+                    maybeAddImport(FQN_INFO);
+                    maybeAddImport(FQN_CONTACT);
+                    maybeAddImport(FQN_LICENSE);
+                    maybeAddImport(FQN_SERVER);
+                    maybeAddImport("java.util.Arrays");
+                    maybeAddImport("java.util.HashSet");
+                    // One `BeanConfig` per block
+                    return b;
+                }
+                return b;
+            }
+
+            /**
+             * The `SwaggerConfiguration` built by the given setters, or {@code null} if any of them can't be converted.
+             */
+            private @Nullable String configuration(Map<String, Expression> setters, List<Object> args) {
+                StringBuilder info = new StringBuilder();
+                for (Map.Entry<String, String> setter : INFO_SETTERS.entrySet()) {
+                    if (setters.containsKey(setter.getKey())) {
+                        info.append('.').append(setter.getValue()).append("(#{any(java.lang.String)})");
+                        args.add(setters.get(setter.getKey()));
+                    }
+                }
+                if (setters.containsKey("setContact")) {
+                    info.append(".contact(new Contact().name(#{any(java.lang.String)}))");
+                    args.add(setters.get("setContact"));
+                }
+                if (setters.containsKey("setLicense") || setters.containsKey("setLicenseUrl")) {
+                    info.append(".license(new License()");
+                    if (setters.containsKey("setLicense")) {
+                        info.append(".name(#{any(java.lang.String)})");
+                        args.add(setters.get("setLicense"));
+                    }
+                    if (setters.containsKey("setLicenseUrl")) {
+                        info.append(".url(#{any(java.lang.String)})");
+                        args.add(setters.get("setLicenseUrl"));
+                    }
+                    info.append(')');
+                }
+
+                List<String> urls = urls(setters);
+                if (urls == null) {
+                    return null;
+                }
+
+                StringBuilder configuration = new StringBuilder("new SwaggerConfiguration()\n.openAPI(new OpenAPI()");
+                if (info.length() > 0) {
+                    configuration.append("\n.info(new Info()").append(info).append(')');
+                }
+                if (!urls.isEmpty()) {
+                    configuration.append("\n.servers(Arrays.asList(");
+                    for (int i = 0; i < urls.size(); i++) {
+                        configuration.append(i == 0 ? "" : ", ").append("new Server().url(").append(literal(urls.get(i))).append(')');
+                    }
+                    configuration.append("))");
+                }
+                configuration.append(')');
+
+                if (setters.containsKey("setResourcePackage")) {
+                    String packages = stringValue(setters.get("setResourcePackage"));
+                    if (packages == null) {
+                        return null;
+                    }
+                    Set<String> resourcePackages = new TreeSet<>();
+                    for (String pkg : packages.split(",")) {
+                        if (!pkg.trim().isEmpty()) {
+                            resourcePackages.add(pkg.trim());
+                        }
+                    }
+                    Set<String> resourceClasses = resourceClasses(resourcePackages);
+                    configuration.append(resourceClasses == null ? "\n.resourcePackages(" : "\n.resourceClasses(")
+                            .append(set(resourceClasses == null ? resourcePackages : resourceClasses)).append(')');
+                }
+                return configuration.append("\n.readAllResources(false)\n.prettyPrint(false)").toString();
+            }
+
+            /**
+             * The root resource classes of the given packages and their subpackages, as scanned by Swagger 1.x, with
+             * the classes declaring the OpenAPI definition, which swagger-jaxrs2 reads from the scanned classes.
+             * {@code null} if no resources are found for one of the packages, or if some classes of the packages come
+             * from the classpath, as they may be resources too.
+             */
+            private @Nullable Set<String> resourceClasses(Set<String> packages) {
+                Set<String> classes = new TreeSet<>();
+                for (String pkg : packages) {
+                    for (String classpathPackage : acc.classpathPackages) {
+                        if (isInPackage(classpathPackage, pkg)) {
+                            return null;
+                        }
+                    }
+                    boolean found = false;
+                    for (Map.Entry<String, Set<String>> resources : acc.resources.entrySet()) {
+                        if (isInPackage(resources.getKey(), pkg)) {
+                            classes.addAll(resources.getValue());
+                            found = true;
+                        }
+                    }
+                    if (!found) {
+                        return null;
+                    }
+                    for (Map.Entry<String, Set<String>> definitions : acc.definitions.entrySet()) {
+                        if (isInPackage(definitions.getKey(), pkg)) {
+                            classes.addAll(definitions.getValue());
+                        }
+                    }
+                }
+                return classes.isEmpty() ? null : classes;
+            }
+
+            private boolean isInPackage(String packageName, String pkg) {
+                return packageName.equals(pkg) || packageName.startsWith(pkg + ".");
+            }
+
+            /**
+             * The server URLs for the host, base path and schemes of a Swagger 2.0 document, which must be literals.
+             */
+            private @Nullable List<String> urls(Map<String, Expression> setters) {
+                String host = setters.containsKey("setHost") ? stringValue(setters.get("setHost")) : "";
+                String basePath = setters.containsKey("setBasePath") ? stringValue(setters.get("setBasePath")) : "";
+                if (host == null || basePath == null) {
+                    return null;
+                }
+                if (host.isEmpty()) {
+                    return basePath.isEmpty() ? Collections.emptyList() : Collections.singletonList(basePath);
+                }
+                List<String> schemes = new ArrayList<>();
+                if (setters.containsKey("setSchemes")) {
+                    Expression value = setters.get("setSchemes");
+                    if (!(value instanceof J.NewArray) || ((J.NewArray) value).getInitializer() == null) {
+                        return null;
+                    }
+                    for (Expression scheme : ((J.NewArray) value).getInitializer()) {
+                        String s = scheme instanceof J.Empty ? null : stringValue(scheme);
+                        if (s == null) {
+                            return null;
+                        }
+                        schemes.add(s.toLowerCase(Locale.ROOT) + ":");
+                    }
+                }
+                if (schemes.isEmpty()) {
+                    // The scheme the document is served with
+                    schemes.add("");
+                }
+                List<String> urls = new ArrayList<>();
+                for (String scheme : schemes) {
+                    urls.add(scheme + "//" + host + basePath);
+                }
+                return urls;
+            }
+
+            private @Nullable J.VariableDeclarations declaration(Statement statement) {
+                if (!(statement instanceof J.VariableDeclarations)) {
+                    return null;
+                }
+                J.VariableDeclarations declaration = (J.VariableDeclarations) statement;
+                if (declaration.getVariables().size() != 1 || !TypeUtils.isOfClassType(declaration.getType(), FQN_BEAN_CONFIG)) {
+                    return null;
+                }
+                Expression initializer = declaration.getVariables().get(0).getInitializer();
+                return initializer instanceof J.NewClass && ((J.NewClass) initializer).getBody() == null &&
+                       TypeUtils.isOfClassType(initializer.getType(), FQN_BEAN_CONFIG) &&
+                       (((J.NewClass) initializer).getArguments().isEmpty() ||
+                        ((J.NewClass) initializer).getArguments().get(0) instanceof J.Empty) ? declaration : null;
+            }
+
+            private J.@Nullable MethodInvocation setter(Statement statement, String name) {
+                if (!(statement instanceof J.MethodInvocation)) {
+                    return null;
+                }
+                J.MethodInvocation invocation = (J.MethodInvocation) statement;
+                return invocation.getSelect() instanceof J.Identifier &&
+                       name.equals(((J.Identifier) invocation.getSelect()).getSimpleName()) &&
+                       invocation.getSimpleName().startsWith("set") && invocation.getArguments().size() == 1 &&
+                       !(invocation.getArguments().get(0) instanceof J.Empty) ? invocation : null;
+            }
+
+            private boolean isReferenced(List<Statement> statements, String name) {
+                for (Statement statement : statements) {
+                    boolean referenced = new JavaIsoVisitor<Set<String>>() {
+                        @Override
+                        public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> found) {
+                            if (name.equals(identifier.getSimpleName())) {
+                                found.add(name);
+                            }
+                            return identifier;
+                        }
+                    }.reduce(statement, new HashSet<>()).contains(name);
+                    if (referenced) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }));
+    }
+
+    private static @Nullable String stringValue(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof String ?
+                (String) ((J.Literal) expression).getValue() : null;
+    }
+
+    private static @Nullable Boolean booleanValue(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Boolean ?
+                (Boolean) ((J.Literal) expression).getValue() : null;
+    }
+
+    private static String set(Set<String> values) {
+        StringBuilder set = new StringBuilder("new HashSet<>(Arrays.asList(");
+        for (String value : values) {
+            set.append(set.charAt(set.length() - 1) == '(' ? "" : ", ").append(literal(value));
+        }
+        return set.append("))").toString();
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.Getter;
+import org.intellij.lang.annotations.Language;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.openapi.table.DocketMigrationIssues;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MigrateDocketToGroupedOpenApi extends Recipe {
+
+    private static final String FQN_DOCKET = "springfox.documentation.spring.web.plugins.Docket";
+
+    /**
+     * springdoc 1.x, for Spring Boot 2, which springfox projects are usually on.
+     */
+    private static final String FQN_GROUPED_OPEN_API_1 = "org.springdoc.core.GroupedOpenApi";
+
+    /**
+     * springdoc 2.x, for Spring Boot 3.
+     */
+    private static final String FQN_GROUPED_OPEN_API_2 = "org.springdoc.core.models.GroupedOpenApi";
+
+    private static final String FQN_REQUEST_HANDLER_SELECTORS = "springfox.documentation.builders.RequestHandlerSelectors";
+    private static final String FQN_PATH_SELECTORS = "springfox.documentation.builders.PathSelectors";
+    private static final String FQN_DOCUMENTATION_TYPE = "springfox.documentation.spi.DocumentationType";
+
+    /**
+     * The calls of a `Docket` chain that are carried over to the `GroupedOpenApi` builder.
+     */
+    private static final Set<String> SUPPORTED_CALLS = new HashSet<>(Arrays.asList("select", "apis", "paths", "build", "groupName"));
+
+    /**
+     * A regular expression that matches a literal path prefix ending with `/`, followed by `.*`, as in `/api/.*`.
+     */
+    private static final Pattern PREFIX_REGEX = Pattern.compile("\\^?(/[\\w\\-/]*/)\\.\\*\\$?");
+    private static final Pattern LITERAL_REGEX = Pattern.compile("\\^?(/[\\w\\-/]*)\\$?");
+
+    @Language("java")
+    private static final String GROUPED_OPEN_API_CLASS =
+            "package %s;\n" +
+            "public class GroupedOpenApi {\n" +
+            "    public static Builder builder() { return new Builder(); }\n" +
+            "    public static class Builder {\n" +
+            "        public Builder group(String group) { return this; }\n" +
+            "        public Builder packagesToScan(String... packagesToScan) { return this; }\n" +
+            "        public Builder pathsToMatch(String... pathsToMatch) { return this; }\n" +
+            "        public GroupedOpenApi build() { return null; }\n" +
+            "    }\n" +
+            "}";
+
+    private static final String GROUPED_OPEN_API = "GROUPED_OPEN_API";
+
+    transient DocketMigrationIssues issues = new DocketMigrationIssues(this);
+
+    @Getter
+    final String displayName = "Migrate springfox `Docket` beans to springdoc `GroupedOpenApi`";
+
+    @Getter
+    final String description = "Replaces springfox `Docket` bean methods with springdoc `GroupedOpenApi` beans. " +
+            "`RequestHandlerSelectors.basePackage(..)` becomes `packagesToScan(..)`, and `PathSelectors.ant(..)` and " +
+            "`PathSelectors.regex(..)` with a literal path prefix become `pathsToMatch(..)`, so that springdoc only scans those. " +
+            "The `GroupedOpenApi` of springdoc 2 is used when springdoc 2 or Jakarta Servlet is on the classpath, and that " +
+            "of springdoc 1 otherwise. Selectors that match everything, such as `any()`, are reported. A `Docket` with " +
+            "selectors that cannot be translated exactly, such as several `apis(..)` selectors, which springfox combines " +
+            "with a logical and, or with other configuration than its selectors and group name, is reported and left unchanged.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(new UsesType<>(FQN_DOCKET, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                if (!TypeUtils.isOfClassType(m.getReturnTypeExpression() == null ? null : m.getReturnTypeExpression().getType(), FQN_DOCKET) ||
+                    m.getBody() == null || m.getBody().getStatements().size() != 1 ||
+                    !(m.getBody().getStatements().get(0) instanceof J.Return)) {
+                    return m;
+                }
+                J.Return ret = (J.Return) m.getBody().getStatements().get(0);
+                List<J.MethodInvocation> calls = calls(ret.getExpression());
+                if (calls.isEmpty()) {
+                    return m;
+                }
+                metrics.matched();
+
+                String sourcePath = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getSourcePath().toString();
+                String bean = m.getSimpleName();
+                List<String> unsupported = new ArrayList<>();
+                for (J.MethodInvocation call : calls) {
+                    if (!SUPPORTED_CALLS.contains(call.getSimpleName())) {
+                        unsupported.add(call.getSimpleName());
+                    }
+                }
+                if (!unsupported.isEmpty()) {
+                    for (String call : unsupported) {
+                        issues.insertRow(ctx, new DocketMigrationIssues.Row(sourcePath, bean, call + "(..)",
+                                "Has no `GroupedOpenApi` equivalent, so the `Docket` is left unchanged"));
+                    }
+                    return m;
+                }
+
+                Expression group = null;
+                Expression packageName = null;
+                Expression antPath = null;
+                String path = null;
+                List<DocketMigrationIssues.Row> untranslated = new ArrayList<>();
+                List<DocketMigrationIssues.Row> matchAll = new ArrayList<>();
+                for (J.MethodInvocation call : calls) {
+                    Expression selector = call.getArguments().get(0);
+                    String expression = selector.printTrimmed(getCursor());
+                    if ("groupName".equals(call.getSimpleName())) {
+                        group = selector;
+                    } else if ("apis".equals(call.getSimpleName())) {
+                        if (isSelector(selector, FQN_REQUEST_HANDLER_SELECTORS, "any")) {
+                            matchAll.add(new DocketMigrationIssues.Row(sourcePath, bean, expression, "Matches all request handlers"));
+                        } else if (!isSelector(selector, FQN_REQUEST_HANDLER_SELECTORS, "basePackage")) {
+                            untranslated.add(new DocketMigrationIssues.Row(sourcePath, bean, expression,
+                                    "Not a package, so the `Docket` is left unchanged"));
+                        } else if (packageName != null) {
+                            // springfox requires a request handler to match every selector, springdoc any package
+                            untranslated.add(new DocketMigrationIssues.Row(sourcePath, bean, expression,
+                                    "Combined with another package selector, so the `Docket` is left unchanged"));
+                        } else {
+                            packageName = ((J.MethodInvocation) selector).getArguments().get(0);
+                        }
+                    } else if ("paths".equals(call.getSimpleName())) {
+                        String regexPath = isSelector(selector, FQN_PATH_SELECTORS, "regex") ?
+                                antPath(((J.MethodInvocation) selector).getArguments().get(0)) : null;
+                        if (isSelector(selector, FQN_PATH_SELECTORS, "any")) {
+                            matchAll.add(new DocketMigrationIssues.Row(sourcePath, bean, expression, "Matches all paths"));
+                        } else if (!isSelector(selector, FQN_PATH_SELECTORS, "ant") && regexPath == null) {
+                            untranslated.add(new DocketMigrationIssues.Row(sourcePath, bean, expression,
+                                    "Not a literal path or path prefix, so the `Docket` is left unchanged"));
+                        } else if (antPath != null || path != null) {
+                            untranslated.add(new DocketMigrationIssues.Row(sourcePath, bean, expression,
+                                    "Combined with another path selector, so the `Docket` is left unchanged"));
+                        } else if (regexPath != null) {
+                            path = regexPath;
+                        } else {
+                            antPath = ((J.MethodInvocation) selector).getArguments().get(0);
+                        }
+                    }
+                }
+                for (DocketMigrationIssues.Row row : untranslated.isEmpty() ? matchAll : untranslated) {
+                    issues.insertRow(ctx, row);
+                }
+                if (!untranslated.isEmpty()) {
+                    return m;
+                }
+
+                String groupedOpenApiType = getCursor().dropParentUntil(J.CompilationUnit.class::isInstance)
+                        .computeMessageIfAbsent(GROUPED_OPEN_API, k -> groupedOpenApi(getCursor().firstEnclosingOrThrow(J.CompilationUnit.class)));
+                StringBuilder template = new StringBuilder("GroupedOpenApi.builder()\n.group(");
+                List<Object> args = new ArrayList<>();
+                if (group != null) {
+                    template.append("#{any(java.lang.String)})");
+                    args.add(group);
+                } else {
+                    template.append('"').append(bean).append("\")");
+                }
+                if (packageName != null) {
+                    template.append("\n.packagesToScan(#{any(java.lang.String)})");
+                    args.add(packageName);
+                }
+                if (antPath != null) {
+                    template.append("\n.pathsToMatch(#{any(java.lang.String)})");
+                    args.add(antPath);
+                } else if (path != null || packageName == null) {
+                    // springdoc requires a group to be narrowed by something
+                    template.append("\n.pathsToMatch(\"").append(path == null ? "/**" : path).append("\")");
+                }
+                template.append("\n.build()");
+
+                maybeAddImport(groupedOpenApiType);
+                maybeRemoveImport(FQN_DOCKET);
+                maybeRemoveImport(FQN_DOCUMENTATION_TYPE);
+                maybeRemoveImport(FQN_REQUEST_HANDLER_SELECTORS);
+                maybeRemoveImport(FQN_PATH_SELECTORS);
+
+                Cursor methodCursor = updateCursor(m);
+                Cursor returnCursor = new Cursor(new Cursor(methodCursor, m.getBody()), ret);
+                Expression builder = metrics.apply(
+                        metrics.build(JavaTemplate.builder(template.toString())
+                                .imports(groupedOpenApiType)
+                                .javaParser(JavaParser.fromJavaVersion().dependsOn(String.format(GROUPED_OPEN_API_CLASS,
+                                        groupedOpenApiType.substring(0, groupedOpenApiType.lastIndexOf('.')))))),
+                        new Cursor(returnCursor, ret.getExpression()), ret.getExpression().getCoordinates().replace(), args.toArray());
+
+                JavaType.ShallowClass groupedOpenApi = JavaType.ShallowClass.build(groupedOpenApiType);
+                TypeTree returnType = m.getReturnTypeExpression();
+                m = m.withReturnTypeExpression(TypeTree.<J.Identifier>build("GroupedOpenApi")
+                                .withType(groupedOpenApi)
+                                .withPrefix(returnType.getPrefix()))
+                        .withMethodType(m.getMethodType() == null ? null : m.getMethodType().withReturnType(groupedOpenApi))
+                        .withBody(m.getBody().withStatements(ListUtils.mapFirst(m.getBody().getStatements(),
+                                s -> ((J.Return) s).withExpression(builder))));
+                return metrics.maybeAutoFormat(this, method, m, ctx, getCursor().getParentTreeCursor());
+            }
+
+            /**
+             * The method invocations of a `new Docket(..)...` chain, from the first to the last.
+             */
+            private List<J.MethodInvocation> calls(@Nullable Expression expression) {
+                List<J.MethodInvocation> calls = new ArrayList<>();
+                Expression e = expression;
+                while (e instanceof J.MethodInvocation) {
+                    calls.add(0, (J.MethodInvocation) e);
+                    e = ((J.MethodInvocation) e).getSelect();
+                }
+                return e instanceof J.NewClass && TypeUtils.isOfClassType(e.getType(), FQN_DOCKET) ? calls : Collections.emptyList();
+            }
+
+            private boolean isSelector(Expression selector, String selectorsType, String name) {
+                if (!(selector instanceof J.MethodInvocation)) {
+                    return false;
+                }
+                J.MethodInvocation invocation = (J.MethodInvocation) selector;
+                return name.equals(invocation.getSimpleName()) && invocation.getMethodType() != null &&
+                       TypeUtils.isOfClassType(invocation.getMethodType().getDeclaringType(), selectorsType);
+            }
+        }));
+    }
+
+    /**
+     * The `GroupedOpenApi` of the springdoc version on the classpath, or else of the version for the Spring Boot
+     * version that the Servlet API on the classpath suggests.
+     */
+    private static String groupedOpenApi(J.CompilationUnit cu) {
+        List<JavaType.FullyQualified> types = new ArrayList<>();
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                types.add((JavaType.FullyQualified) type);
+            }
+        }
+        cu.getMarkers().findFirst(JavaSourceSet.class).ifPresent(sourceSet -> types.addAll(sourceSet.getClasspath()));
+        boolean jakarta = false;
+        for (JavaType.FullyQualified type : types) {
+            String fqn = type.getFullyQualifiedName();
+            if (FQN_GROUPED_OPEN_API_1.equals(fqn) || FQN_GROUPED_OPEN_API_2.equals(fqn)) {
+                return fqn;
+            }
+            jakarta |= fqn.startsWith("jakarta.servlet.");
+        }
+        return jakarta ? FQN_GROUPED_OPEN_API_2 : FQN_GROUPED_OPEN_API_1;
+    }
+
+    /**
+     * The Ant-style pattern of a regular expression literal matching exactly a path or a path prefix, if it is that simple.
+     */
+    private static @Nullable String antPath(Expression regex) {
+        if (!(regex instanceof J.Literal) || !(((J.Literal) regex).getValue() instanceof String)) {
+            return null;
+        }
+        String value = (String) ((J.Literal) regex).getValue();
+        Matcher prefix = PREFIX_REGEX.matcher(value);
+        if (prefix.matches()) {
+            return prefix.group(1) + "**";
+        }
+        Matcher literal = LITERAL_REGEX.matcher(value);
+        return literal.matches() ? literal.group(1) : null;
+    }
+}
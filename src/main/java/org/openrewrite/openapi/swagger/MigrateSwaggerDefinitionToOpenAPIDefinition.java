@@ -44,7 +44,8 @@ public class MigrateSwaggerDefinitionToOpenAPIDefinition extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        RecipeMetrics metrics = new RecipeMetrics(this);
+        return metrics.instrument(Preconditions.check(
                 new UsesType<>(FQN_SWAGGER_DEFINITION, false),
                 new JavaIsoVisitor<ExecutionContext>() {
                     private final AnnotationMatcher annotationMatcher = new AnnotationMatcher(FQN_SWAGGER_DEFINITION);
@@ -54,6 +55,7 @@ public class MigrateSwaggerDefinitionToOpenAPIDefinition extends Recipe {
                         J.Annotation ann = super.visitAnnotation(annotation, ctx);
 
                         if (annotationMatcher.matches(ann)) {
+                            metrics.annotationMatched(ann);
                             Map<String, Expression> args = AnnotationUtils.extractArgumentAssignedExpressions(ann);
 
                             StringBuilder tpl = new StringBuilder("@OpenAPIDefinition(\n");
@@ -93,21 +95,21 @@ public class MigrateSwaggerDefinitionToOpenAPIDefinition extends Recipe {
                             tpl.append(String.join(",\n", parts));
                             tpl.append("\n)");
 
-                            ann = JavaTemplate.builder(tpl.toString())
-                                    .imports(FQN_OPENAPI_DEFINITION, FQN_SERVER)
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))
-                                    .build()
-                                    .apply(updateCursor(ann), ann.getCoordinates().replace(), tplArgs.toArray());
+                            ann = metrics.apply(
+                                    metrics.build(JavaTemplate.builder(tpl.toString())
+                                            .imports(FQN_OPENAPI_DEFINITION, FQN_SERVER)
+                                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "swagger-annotations-2"))),
+                                    updateCursor(ann), ann.getCoordinates().replace(), tplArgs.toArray());
                             maybeRemoveImport(FQN_SWAGGER_DEFINITION);
                             maybeAddImport(FQN_OPENAPI_DEFINITION, false);
                             maybeAddImport(FQN_SERVER, false);
-                            ann = maybeAutoFormat(annotation, ann, ctx);
+                            ann = metrics.maybeAutoFormat(this, annotation, ann, ctx);
                         }
 
-                        doAfterVisit(new RemoveUnusedImports().getVisitor());
+                        doAfterVisit(metrics.afterVisit(new RemoveUnusedImports().getVisitor()));
                         return ann;
                     }
                 }
-        );
+        ));
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaCoordinates;
+import org.openrewrite.openapi.table.SwaggerRecipeMetrics;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Counts and times the expensive operations a migration recipe performs on each source file and reports them,
+ * along with the wall time of the visit, in {@link SwaggerRecipeMetrics}.
+ * <p>
+ * Metrics are opt-in: nothing is measured or reported unless {@link ReportSwaggerRecipeMetrics} runs ahead of the
+ * migration recipes and puts its data table in the execution context.
+ * <p>
+ * The counters are reset whenever the {@link #instrument(TreeVisitor) instrumented} visitor starts on a new source file,
+ * and a row is only inserted for source files in which the recipe matched something.
+ * Like the visitor it instruments, an instance visits one source file at a time, so each
+ * {@code getVisitor()} call creates its own instance.
+ */
+@RequiredArgsConstructor
+class RecipeMetrics {
+    static final String TABLE = "org.openrewrite.openapi.swagger.RecipeMetrics.TABLE";
+
+    private static final String EDIT = "edit";
+    private static final String SCAN = "scan";
+
+    private final Recipe recipe;
+
+    /**
+     * The table of the source file being visited, or {@code null} when metrics are not enabled.
+     */
+    private @Nullable SwaggerRecipeMetrics table;
+
+    private final Set<String> annotationTypes = new TreeSet<>();
+    private int matches;
+    private int templatesCompiled;
+    private int templatesApplied;
+    private long templateTime;
+    private int autoFormats;
+    private long autoFormatTime;
+    private int afterVisits;
+    private long afterVisitTime;
+
+    void matched() {
+        matches++;
+    }
+
+    void annotationMatched(J.Annotation annotation) {
+        matches++;
+        if (table == null) {
+            return;
+        }
+        String type = AnnotationUtils.fullyQualifiedName(annotation);
+        annotationTypes.add(type == null ? annotation.getSimpleName() : type);
+    }
+
+    JavaTemplate build(JavaTemplate.Builder builder) {
+        if (table == null) {
+            return builder.build();
+        }
+        templatesCompiled++;
+        long start = System.nanoTime();
+        try {
+            return builder.build();
+        } finally {
+            templateTime += System.nanoTime() - start;
+        }
+    }
+
+    <J2 extends J> J2 apply(JavaTemplate template, Cursor scope, JavaCoordinates coordinates, Object... parameters) {
+        if (table == null) {
+            return template.apply(scope, coordinates, parameters);
+        }
+        templatesApplied++;
+        long start = System.nanoTime();
+        try {
+            return template.apply(scope, coordinates, parameters);
+        } finally {
+            templateTime += System.nanoTime() - start;
+        }
+    }
+
+    <J2 extends J> J2 autoFormat(JavaVisitor<ExecutionContext> visitor, J2 j, ExecutionContext ctx, Cursor cursor) {
+        if (table == null) {
+            return visitor.autoFormat(j, ctx, cursor);
+        }
+        autoFormats++;
+        long start = System.nanoTime();
+        try {
+            return visitor.autoFormat(j, ctx, cursor);
+        } finally {
+            autoFormatTime += System.nanoTime() - start;
+        }
+    }
+
+    <J2 extends J> J2 maybeAutoFormat(JavaVisitor<ExecutionContext> visitor, J2 before, J2 after, ExecutionContext ctx) {
+        if (table == null) {
+            return visitor.maybeAutoFormat(before, after, ctx);
+        }
+        autoFormats++;
+        long start = System.nanoTime();
+        try {
+            return visitor.maybeAutoFormat(before, after, ctx);
+        } finally {
+            autoFormatTime += System.nanoTime() - start;
+        }
+    }
+
+    <J2 extends J> J2 maybeAutoFormat(JavaVisitor<ExecutionContext> visitor, J2 before, J2 after, ExecutionContext ctx, Cursor cursor) {
+        return maybeAutoFormat(visitor, before, after, null, ctx, cursor);
+    }
+
+    <J2 extends J> J2 maybeAutoFormat(JavaVisitor<ExecutionContext> visitor, J2 before, J2 after, @Nullable J stopAfter, ExecutionContext ctx, Cursor cursor) {
+        if (table == null) {
+            return visitor.maybeAutoFormat(before, after, stopAfter, ctx, cursor);
+        }
+        autoFormats++;
+        long start = System.nanoTime();
+        try {
+            return visitor.maybeAutoFormat(before, after, stopAfter, ctx, cursor);
+        } finally {
+            autoFormatTime += System.nanoTime() - start;
+        }
+    }
+
+    TreeVisitor<?, ExecutionContext> afterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+        if (table == null) {
+            return visitor;
+        }
+        afterVisits++;
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                long start = System.nanoTime();
+                try {
+                    return visitor.visit(tree, ctx, getCursor());
+                } finally {
+                    afterVisitTime += System.nanoTime() - start;
+                }
+            }
+        };
+    }
+
+    TreeVisitor<?, ExecutionContext> instrument(TreeVisitor<?, ExecutionContext> visitor) {
+        return instrument(visitor, EDIT);
+    }
+
+    TreeVisitor<?, ExecutionContext> instrumentScanner(TreeVisitor<?, ExecutionContext> scanner) {
+        return instrument(scanner, SCAN);
+    }
+
+    private TreeVisitor<?, ExecutionContext> instrument(TreeVisitor<?, ExecutionContext> visitor, String phase) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return visitor.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return visitor.visit(tree, ctx);
+                }
+
+                table = ctx.getMessage(TABLE);
+                if (table == null) {
+                    return visitor.visit(tree, ctx);
+                }
+
+                annotationTypes.clear();
+                matches = 0;
+                templatesCompiled = 0;
+                templatesApplied = 0;
+                templateTime = 0;
+                autoFormats = 0;
+                autoFormatTime = 0;
+                afterVisits = 0;
+                afterVisitTime = 0;
+
+                long start = System.nanoTime();
+                Tree after = visitor.visit(tree, ctx);
+                long wallTime = System.nanoTime() - start;
+
+                if (matches > 0) {
+                    table.insertRow(ctx, new SwaggerRecipeMetrics.Row(
+                            recipe.getName(),
+                            phase,
+                            ((SourceFile) tree).getSourcePath().toString(),
+                            String.join(",", annotationTypes),
+                            wallTime,
+                            matches,
+                            templatesCompiled,
+                            templatesApplied,
+                            templateTime,
+                            autoFormats,
+                            autoFormatTime,
+                            afterVisits,
+                            afterVisitTime
+                    ));
+                }
+                return after;
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.Getter;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.openapi.table.SwaggerRecipeMetrics;
+
+public class ReportSwaggerRecipeMetrics extends ScanningRecipe<SwaggerRecipeMetrics> {
+
+    transient SwaggerRecipeMetrics recipeMetrics = new SwaggerRecipeMetrics(this);
+
+    @Getter
+    final String displayName = "Report Swagger recipe metrics";
+
+    @Getter
+    final String description = "Enables the `SwaggerRecipeMetrics` data table for the Swagger migration recipes that run " +
+            "after this one, as in `org.openrewrite.openapi.swagger.SwaggerToOpenAPIWithMetrics`. " +
+            "The migration recipes report nothing on their own. This recipe makes no changes.";
+
+    /**
+     * The accumulator is created before any recipe scans or edits the first source file, and recipes run in the
+     * order of the recipe list, so the migration recipes listed after this one find the table in the context.
+     */
+    @Override
+    public SwaggerRecipeMetrics getInitialValue(ExecutionContext ctx) {
+        ctx.putMessage(RecipeMetrics.TABLE, recipeMetrics);
+        return recipeMetrics;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(SwaggerRecipeMetrics acc) {
+        return TreeVisitor.noop();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(SwaggerRecipeMetrics acc) {
+        return TreeVisitor.noop();
+    }
+}
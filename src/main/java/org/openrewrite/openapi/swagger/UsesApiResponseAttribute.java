@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Precondition that finds {@code @io.swagger.v3.oas.annotations.responses.ApiResponse} annotations which still carry an
+ * attribute left over from Swagger 1.x, so that files which are already fully migrated are not visited at all.
+ * <p>
+ * Only the annotations of types, methods and other annotations are inspected, including the ones among the modifiers.
+ * Method bodies and variable initializers are only searched for the local and anonymous classes they declare, nodes which
+ * can't contain a class declaration are skipped, and the search stops at the first match.
+ */
+@RequiredArgsConstructor
+class UsesApiResponseAttribute extends JavaIsoVisitor<ExecutionContext> {
+    private static final String FQN_API_RESPONSE = "io.swagger.v3.oas.annotations.responses.ApiResponse";
+
+    private final Collection<String> attributes;
+    private final Predicate<Expression> value;
+
+    private boolean found;
+
+    /**
+     * Matches an {@code @ApiResponse} with any of the given attributes, whatever their value.
+     */
+    static UsesApiResponseAttribute anyOf(String... attributes) {
+        return new UsesApiResponseAttribute(Arrays.asList(attributes), value -> true);
+    }
+
+    /**
+     * Matches an {@code @ApiResponse} whose {@code responseCode} is not (yet) a {@code String}.
+     */
+    static UsesApiResponseAttribute nonStringResponseCode() {
+        return new UsesApiResponseAttribute(singletonList("responseCode"), value -> !TypeUtils.isString(value.getType()));
+    }
+
+    @Override
+    public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (found || tree instanceof J.Import || tree instanceof J.Package ||
+                tree instanceof J.Identifier || tree instanceof J.Literal) {
+            return (J) tree;
+        }
+        return super.visit(tree, ctx);
+    }
+
+    @Override
+    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+        found = false;
+        J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
+        return found ? SearchResult.found(c) : c;
+    }
+
+    @Override
+    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+        // Annotations may also appear among the modifiers, as in `public @ApiResponse(...) void m()`
+        for (J.Annotation annotation : method.getAllAnnotations()) {
+            visit(annotation, ctx);
+        }
+        // The body may declare local and anonymous classes, while the parameters and return type can't
+        visit(method.getBody(), ctx);
+        return method;
+    }
+
+    @Override
+    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+        // `@ApiResponse` doesn't apply to variables, but an initializer may declare an anonymous class
+        for (J.VariableDeclarations.NamedVariable variable : multiVariable.getVariables()) {
+            visit(variable.getInitializer(), ctx);
+        }
+        return multiVariable;
+    }
+
+    @Override
+    public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+        if (FQN_API_RESPONSE.equals(AnnotationUtils.fullyQualifiedName(annotation)) && annotation.getArguments() != null) {
+            for (Expression argument : annotation.getArguments()) {
+                if (argument instanceof J.Assignment) {
+                    J.Assignment assignment = (J.Assignment) argument;
+                    if (assignment.getVariable() instanceof J.Identifier &&
+                            attributes.contains(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
+                            value.test(assignment.getAssignment())) {
+                        found = true;
+                        return annotation;
+                    }
+                }
+            }
+        }
+        // `@ApiResponse` can be nested in `@ApiResponses` or `@Operation`
+        return super.visitAnnotation(annotation, ctx);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ComposedApiResponses extends DataTable<ComposedApiResponses.Row> {
+
+    public ComposedApiResponses(Recipe recipe) {
+        super(recipe,
+                "Composed API responses",
+                "The composed annotations that replace repeated `@ApiResponses` sets, and the number of `@ApiResponses` they replace.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file declaring the composed annotation.")
+        String sourcePath;
+
+        @Column(displayName = "Annotation",
+                description = "The fully qualified name of the composed annotation.")
+        String annotation;
+
+        @Column(displayName = "Response codes",
+                description = "The response codes of the `@ApiResponse` annotations in the set.")
+        String responseCodes;
+
+        @Column(displayName = "Generated",
+                description = "Whether the composed annotation was generated, rather than already declared.")
+        boolean generated;
+
+        @Column(displayName = "Annotations replaced",
+                description = "The number of duplicate `@ApiResponses` annotations replaced with the composed annotation.")
+        int annotationsReplaced;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ConflictingOperations extends DataTable<ConflictingOperations.Row> {
+
+    public ConflictingOperations(Recipe recipe) {
+        super(recipe,
+                "Conflicting operations",
+                "The controller methods left out of a generated OpenAPI document, because another method of the " +
+                "module is mapped to the same path and HTTP method.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file declaring the controller method.")
+        String sourcePath;
+
+        @Column(displayName = "Method",
+                description = "The name of the controller method.")
+        String method;
+
+        @Column(displayName = "HTTP method",
+                description = "The HTTP method the controller method is mapped to.")
+        String httpMethod;
+
+        @Column(displayName = "Path",
+                description = "The path the controller method is mapped to.")
+        String path;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DocketMigrationIssues extends DataTable<DocketMigrationIssues.Row> {
+
+    public DocketMigrationIssues(Recipe recipe) {
+        super(recipe,
+                "Docket migration issues",
+                "The springfox `Docket` selectors that could not be narrowed to packages or paths to scan, " +
+                "and the `Docket` beans that could not be migrated to a springdoc `GroupedOpenApi`.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file declaring the `Docket` bean.")
+        String sourcePath;
+
+        @Column(displayName = "Bean",
+                description = "The name of the method declaring the `Docket` bean.")
+        String bean;
+
+        @Column(displayName = "Expression",
+                description = "The selector or `Docket` method call.")
+        String expression;
+
+        @Column(displayName = "Issue",
+                description = "Why the expression was not carried over.")
+        String issue;
+    }
+}
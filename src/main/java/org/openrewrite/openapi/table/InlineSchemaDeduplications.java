@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class InlineSchemaDeduplications extends DataTable<InlineSchemaDeduplications.Row> {
+
+    public InlineSchemaDeduplications(Recipe recipe) {
+        super(recipe,
+                "Inline schema deduplications",
+                "The inline schemas moved to `components/schemas` per OpenAPI document, and the size of the document before and after.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the OpenAPI document.")
+        String sourcePath;
+
+        @Column(displayName = "Schemas added",
+                description = "The number of schemas added to `components/schemas`.")
+        int schemasAdded;
+
+        @Column(displayName = "Inline schemas replaced",
+                description = "The number of inline schemas replaced with a `$ref`.")
+        int inlineSchemasReplaced;
+
+        @Column(displayName = "Bytes before",
+                description = "The size of the document before deduplication, in UTF-8.")
+        long bytesBefore;
+
+        @Column(displayName = "Bytes after",
+                description = "The size of the document after deduplication, in UTF-8.")
+        long bytesAfter;
+
+        @Column(displayName = "Bytes saved",
+                description = "The difference between the size before and after deduplication.")
+        long bytesSaved;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ModelHotSpots extends DataTable<ModelHotSpots.Row> {
+
+    public ModelHotSpots(Recipe recipe) {
+        super(recipe,
+                "Model hot spots",
+                "The model classes that become schemas of the OpenAPI document, with the size and shape of the schema " +
+                "graph below each of them.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file declaring the model class.")
+        String sourcePath;
+
+        @Column(displayName = "Model class",
+                description = "The fully qualified name of the model class.")
+        String modelClass;
+
+        @Column(displayName = "Properties",
+                description = "The number of properties of the model class, declared as instance fields or record components.")
+        int properties;
+
+        @Column(displayName = "Fan-out",
+                description = "The number of distinct model classes that the properties and `implementation` attributes " +
+                              "of the model class refer to.")
+        int fanOut;
+
+        @Column(displayName = "Depth",
+                description = "The number of levels of the schema graph below and including the model class, where " +
+                              "the model classes of a cycle count as a single level.")
+        int depth;
+
+        @Column(displayName = "Cycle size",
+                description = "The number of model classes in the cycle of references the model class is part of, " +
+                              "or 0 if it isn't part of any.")
+        int cycleSize;
+
+        @Column(displayName = "Estimated schema size",
+                description = "The number of properties of the schema with the schemas of all the model classes it refers " +
+                              "to inlined, counting a schema once per path it is reached by and each cycle once.")
+        long estimatedSchemaSize;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class SwaggerMigrationEstimates extends DataTable<SwaggerMigrationEstimates.Row> {
+
+    public SwaggerMigrationEstimates(Recipe recipe) {
+        super(recipe,
+                "Swagger migration estimates",
+                "The Swagger annotations found per source file, the migration recipe that would rewrite them and an estimate of the work involved.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the Swagger annotations.")
+        String sourcePath;
+
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe that would migrate the annotations.")
+        String recipe;
+
+        @Column(displayName = "Annotation type",
+                description = "The fully qualified name of the Swagger annotation.")
+        String annotationType;
+
+        @Column(displayName = "Annotations",
+                description = "The number of annotations of this type found in the source file.")
+        int annotations;
+
+        @Column(displayName = "Template applications",
+                description = "The number of `JavaTemplate` applications the recipe is predicted to perform for these annotations.")
+        int templateApplications;
+
+        @Column(displayName = "Estimated cost",
+                description = "A relative cost estimate, counting one unit per rewritten annotation and ten units per template application.")
+        int estimatedCost;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class SwaggerRecipeMetrics extends DataTable<SwaggerRecipeMetrics.Row> {
+
+    public SwaggerRecipeMetrics(Recipe recipe) {
+        super(recipe,
+                "Swagger recipe metrics",
+                "Wall time, counts and time spent in the expensive operations performed by the Swagger migration recipes, per recipe and per source file.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Phase",
+                description = "Either `scan` for the scanning phase of a scanning recipe or `edit`.")
+        String phase;
+
+        @Column(displayName = "Source path",
+                description = "The path to the source file visited by the recipe.")
+        String sourcePath;
+
+        @Column(displayName = "Annotation types",
+                description = "The fully qualified names of the annotations matched, comma separated.")
+        String annotationTypes;
+
+        @Column(displayName = "Wall time (ns)",
+                description = "The time spent visiting the source file, including the visitors scheduled with `doAfterVisit`.")
+        long wallTime;
+
+        @Column(displayName = "Matches",
+                description = "The number of annotations the recipe matched and migrated, or while scanning the number of declarations collected.")
+        int matches;
+
+        @Column(displayName = "Templates compiled",
+                description = "The number of `JavaTemplate` instances built.")
+        int templatesCompiled;
+
+        @Column(displayName = "Templates applied",
+                description = "The number of `JavaTemplate` applications.")
+        int templatesApplied;
+
+        @Column(displayName = "Template time (ns)",
+                description = "The time spent building and applying `JavaTemplate` instances.")
+        long templateTime;
+
+        @Column(displayName = "Auto-format calls",
+                description = "The number of `autoFormat` and `maybeAutoFormat` calls.")
+        int autoFormats;
+
+        @Column(displayName = "Auto-format time (ns)",
+                description = "The time spent in `autoFormat` and `maybeAutoFormat`.")
+        long autoFormatTime;
+
+        @Column(displayName = "After-visit visitors",
+                description = "The number of visitors scheduled with `doAfterVisit`.")
+        int afterVisits;
+
+        @Column(displayName = "After-visit time (ns)",
+                description = "The time spent running the visitors scheduled with `doAfterVisit`.")
+        long afterVisitTime;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.openapi.table.InlineSchemaDeduplications;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class DeduplicateInlineSchemasTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new DeduplicateInlineSchemas());
+    }
+
+    @DocumentExample
+    @Test
+    void hoistRepeatedInlineSchema() {
+        rewriteRun(
+          spec -> spec.dataTable(InlineSchemaDeduplications.Row.class, rows -> {
+              assertThat(rows).hasSize(1);
+              InlineSchemaDeduplications.Row row = rows.get(0);
+              assertThat(row.getSchemasAdded()).isEqualTo(1);
+              assertThat(row.getInlineSchemasReplaced()).isEqualTo(2);
+              assertThat(row.getBytesSaved()).isEqualTo(row.getBytesBefore() - row.getBytesAfter());
+          }),
+          //language=yaml
+          yaml(
+            """
+              openapi: 3.0.3
+              paths:
+                /pets:
+                  post:
+                    requestBody:
+                      content:
+                        application/json:
+                          schema:
+                            type: object
+                            properties:
+                              name:
+                                type: string
+                    responses:
+                      "200":
+                        description: OK
+                        content:
+                          application/json:
+                            schema:
+                              properties:
+                                name:
+                                  type: string
+                              type: object
+              """,
+            """
+              openapi: 3.0.3
+              paths:
+                /pets:
+                  post:
+                    requestBody:
+                      content:
+                        application/json:
+                          schema:
+                            $ref: "#/components/schemas/InlineSchema1"
+                    responses:
+                      "200":
+                        description: OK
+                        content:
+                          application/json:
+                            schema:
+                              $ref: "#/components/schemas/InlineSchema1"
+              components:
+                schemas:
+                  InlineSchema1:
+                    type: object
+                    properties:
+                      name:
+                        type: string
+              """
+          )
+        );
+    }
+
+    @Test
+    void referExistingComponentSchema() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              openapi: 3.0.3
+              paths:
+                /pets:
+                  get:
+                    responses:
+                      "200":
+                        description: OK
+                        content:
+                          application/json:
+                            schema:
+                              type: object
+                              required: [id, name]
+                              properties:
+                                id:
+                                  type: integer
+                                name:
+                                  type: string
+              components:
+                schemas:
+                  Pet:
+                    type: object
+                    properties:
+                      name:
+                        type: string
+                      id:
+                        type: integer
+                    required:
+                      - name
+                      - id
+              """,
+            """
+              openapi: 3.0.3
+              paths:
+                /pets:
+                  get:
+                    responses:
+                      "200":
+                        description: OK
+                        content:
+                          application/json:
+                            schema:
+                              $ref: "#/components/schemas/Pet"
+              components:
+                schemas:
+                  Pet:
+                    type: object
+                    properties:
+                      name:
+                        type: string
+                      id:
+                        type: integer
+                    required:
+                      - name
+                      - id
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDistinctInlineSchemas() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              openapi: 3.0.3
+              paths:
+                /pets:
+                  get:
+                    parameters:
+                      - name: filter
+                        in: query
+                        schema:
+                          type: object
+                          properties:
+                            name:
+                              type: string
+                    responses:
+                      "200":
+                        description: OK
+                        content:
+                          application/json:
+                            schema:
+                              type: object
+                              properties:
+                                name:
+                                  type: integer
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.openapi.table.ConflictingOperations;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.java.Assertions.srcTestJava;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class GenerateOpenApiDocumentTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GenerateOpenApiDocument(null))
+          .parser(JavaParser.fromJavaVersion().classpath("swagger-annotations-2", "jakarta.ws.rs-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void generateFromJaxRsResource() {
+        rewriteRun(
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import io.swagger.v3.oas.annotations.Operation;
+                import io.swagger.v3.oas.annotations.Parameter;
+                import io.swagger.v3.oas.annotations.tags.Tag;
+                import jakarta.ws.rs.GET;
+                import jakarta.ws.rs.Path;
+                import jakarta.ws.rs.PathParam;
+                import jakarta.ws.rs.Produces;
+
+                @Path("/pets")
+                @Tag(name = "pets", description = "Everything about pets")
+                @Produces("application/json")
+                public class PetResource {
+                    @GET
+                    @Path("/{id}")
+                    @Operation(summary = "Find a pet")
+                    public Pet find(@Parameter(description = "The pet id") @PathParam("id") long id) {
+                        return null;
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example;
+
+                public class Pet {
+                    private String name;
+                    private Status status;
+
+                    public enum Status {
+                        AVAILABLE, SOLD
+                    }
+                }
+                """
+            )
+          ),
+          //language=yaml
+          yaml(
+            null,
+            """
+              openapi: 3.0.1
+              info:
+                title: "OpenAPI definition"
+                version: "v0"
+              tags:
+                - name: "pets"
+                  description: "Everything about pets"
+              paths:
+                '/pets/{id}':
+                  get:
+                    tags:
+                      - "pets"
+                    summary: "Find a pet"
+                    operationId: "find"
+                    parameters:
+                      - name: "id"
+                        in: path
+                        description: "The pet id"
+                        required: true
+                        schema:
+                          type: integer
+                          format: int64
+                    responses:
+                      '200':
+                        description: "OK"
+                        content:
+                          application/json:
+                            schema:
+                              $ref: '#/components/schemas/Pet'
+              components:
+                schemas:
+                  Pet:
+                    type: object
+                    properties:
+                      name:
+                        type: string
+                      status:
+                        $ref: '#/components/schemas/Pet.Status'
+                  Pet.Status:
+                    type: string
+                    enum:
+                      - "AVAILABLE"
+                      - "SOLD"
+              """,
+            spec -> spec.path("src/main/resources/openapi.yaml")
+          )
+        );
+    }
+
+    @Test
+    void resolveProjectAndMediaTypeConstants() {
+        rewriteRun(
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import jakarta.ws.rs.Consumes;
+                import jakarta.ws.rs.POST;
+                import jakarta.ws.rs.Path;
+                import jakarta.ws.rs.core.MediaType;
+
+                @Path(ApiPaths.PETS)
+                @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+                public class PetResource {
+                    @POST
+                    @Path(ApiPaths.SEARCH)
+                    public void search(String query) {
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example;
+
+                public interface ApiPaths {
+                    String BASE = "/v1";
+                    String PETS = BASE + "/pets";
+                    String SEARCH = "/search";
+                }
+                """
+            )
+          ),
+          //language=yaml
+          yaml(
+            null,
+            """
+              openapi: 3.0.1
+              info:
+                title: "OpenAPI definition"
+                version: "v0"
+              paths:
+                '/v1/pets/search':
+                  post:
+                    operationId: "search"
+                    requestBody:
+                      content:
+                        application/x-www-form-urlencoded:
+                          schema:
+                            type: string
+                      required: true
+                    responses:
+                      '200':
+                        description: "OK"
+              """,
+            spec -> spec.path("src/main/resources/openapi.yaml")
+          )
+        );
+    }
+
+    @Test
+    void uniqueOperationIdsAndSchemaNames() {
+        rewriteRun(
+          spec -> spec.dataTable(ConflictingOperations.Row.class, rows -> assertThat(rows).containsExactly(
+            new ConflictingOperations.Row("src/main/java/com/example/PetResource.java", "list", "GET", "/pets"))),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import com.example.pet.Error;
+                import jakarta.ws.rs.GET;
+                import jakarta.ws.rs.Path;
+
+                @Path("/pets")
+                public class PetResource {
+                    @GET
+                    public Error findAll() {
+                        return null;
+                    }
+
+                    @GET
+                    public String list() {
+                        return null;
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import com.example.store.Error;
+                import jakarta.ws.rs.GET;
+                import jakarta.ws.rs.Path;
+
+                @Path("/stores")
+                public class StoreResource {
+                    @GET
+                    public Error findAll() {
+                        return null;
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example.pet;
+
+                public class Error {
+                    private String message;
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example.store;
+
+                public class Error {
+                    private int code;
+                }
+                """
+            )
+          ),
+          //language=yaml
+          yaml(
+            null,
+            """
+              openapi: 3.0.1
+              info:
+                title: "OpenAPI definition"
+                version: "v0"
+              paths:
+                '/pets':
+                  get:
+                    operationId: "findAll"
+                    responses:
+                      '200':
+                        description: "OK"
+                        content:
+                          application/json:
+                            schema:
+                              $ref: '#/components/schemas/com.example.pet.Error'
+                '/stores':
+                  get:
+                    operationId: "findAll_1"
+                    responses:
+                      '200':
+                        description: "OK"
+                        content:
+                          application/json:
+                            schema:
+                              $ref: '#/components/schemas/com.example.store.Error'
+              components:
+                schemas:
+                  com.example.pet.Error:
+                    type: object
+                    properties:
+                      message:
+                        type: string
+                  com.example.store.Error:
+                    type: object
+                    properties:
+                      code:
+                        type: integer
+                        format: int32
+              """,
+            spec -> spec.path("src/main/resources/openapi.yaml")
+          )
+        );
+    }
+
+    @Test
+    void ignoreTestSources() {
+        rewriteRun(
+          srcTestJava(
+            //language=java
+            java(
+              """
+                import jakarta.ws.rs.GET;
+                import jakarta.ws.rs.Path;
+
+                @Path("/test")
+                class TestResource {
+                    @GET
+                    public String get() {
+                        return "";
+                    }
+                }
+                """
+            )
+          )
+        );
+    }
+}
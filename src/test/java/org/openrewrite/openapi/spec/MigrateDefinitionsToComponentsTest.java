@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateDefinitionsToComponentsTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateDefinitionsToComponents());
+    }
+
+    @DocumentExample
+    @Test
+    void moveDefinitionsAndSecurityDefinitions() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              swagger: "2.0"
+              paths: {}
+              definitions:
+                Pet:
+                  type: object
+                Pets:
+                  type: array
+                  items:
+                    $ref: "#/definitions/Pet"
+              securityDefinitions:
+                basicAuth:
+                  type: basic
+                petstoreAuth:
+                  type: oauth2
+                  flow: accessCode
+                  authorizationUrl: https://example.com/authorize
+                  tokenUrl: https://example.com/token
+              """,
+            """
+              swagger: "2.0"
+              paths: {}
+              components:
+                schemas:
+                  Pet:
+                    type: object
+                  Pets:
+                    type: array
+                    items:
+                      $ref: "#/components/schemas/Pet"
+                securitySchemes:
+                  basicAuth:
+                    type: http
+                    scheme: basic
+                  petstoreAuth:
+                    type: oauth2
+                    flows:
+                      authorizationCode:
+                        authorizationUrl: https://example.com/authorize
+                        tokenUrl: https://example.com/token
+                        scopes: {}
+              """
+          )
+        );
+    }
+
+    @Test
+    void mergeIntoExistingComponents() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              swagger: "2.0"
+              paths: {}
+              components:
+                schemas:
+                  Error:
+                    type: object
+                examples:
+                  Pet:
+                    value: {}
+              definitions:
+                Tag:
+                  type: object
+              responses:
+                NotFound:
+                  description: Not found
+                  schema:
+                    $ref: "#/definitions/Error"
+              """,
+            """
+              swagger: "2.0"
+              paths: {}
+              components:
+                schemas:
+                  Error:
+                    type: object
+                  Tag:
+                    type: object
+                examples:
+                  Pet:
+                    value: {}
+                responses:
+                  NotFound:
+                    description: Not found
+                    schema:
+                      $ref: "#/components/schemas/Error"
+              """
+          )
+        );
+    }
+
+    @Test
+    void markNameTakenInComponents() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              swagger: "2.0"
+              paths: {}
+              components:
+                schemas:
+                  Pet:
+                    type: string
+              definitions:
+                Pet:
+                  type: object
+                Tag:
+                  type: object
+              """,
+            """
+              swagger: "2.0"
+              paths: {}
+              components:
+                schemas:
+                  Pet:
+                    type: string
+              definitions:
+                ~~(`Pet` is already in `components/schemas`)~~>Pet:
+                  type: object
+                Tag:
+                  type: object
+              """
+          )
+        );
+    }
+}
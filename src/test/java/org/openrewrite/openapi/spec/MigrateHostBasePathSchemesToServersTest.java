@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateHostBasePathSchemesToServersTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateHostBasePathSchemesToServers());
+    }
+
+    @DocumentExample
+    @Test
+    void serverPerScheme() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              swagger: "2.0"
+              host: petstore.example.com
+              basePath: /v1
+              schemes:
+                - https
+                - http
+              paths: {}
+              """,
+            """
+              swagger: "2.0"
+              servers:
+                - url: https://petstore.example.com/v1
+                - url: http://petstore.example.com/v1
+              paths: {}
+              """
+          )
+        );
+    }
+
+    @Test
+    void basePathOnly() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              swagger: "2.0"
+              basePath: /v1
+              paths: {}
+              """,
+            """
+              swagger: "2.0"
+              servers:
+                - url: /v1
+              paths: {}
+              """
+          )
+        );
+    }
+}
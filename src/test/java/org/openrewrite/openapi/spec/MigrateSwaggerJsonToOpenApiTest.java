@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.json.Assertions.json;
+
+class MigrateSwaggerJsonToOpenApiTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateSwaggerJsonToOpenApi());
+    }
+
+    @DocumentExample
+    @Test
+    void migrateJsonDocument() {
+        rewriteRun(
+          //language=json
+          json(
+            """
+              {
+                "swagger": "2.0",
+                "info": {
+                  "title": "Petstore",
+                  "version": "1.0.0"
+                },
+                "paths": {
+                  "/pets/{id}": {
+                    "get": {
+                      "parameters": [
+                        {
+                          "name": "id",
+                          "in": "path",
+                          "required": true,
+                          "type": "integer"
+                        }
+                      ],
+                      "responses": {
+                        "200": {
+                          "description": "A pet's details",
+                          "schema": {
+                            "$ref": "#/definitions/Pet"
+                          }
+                        }
+                      }
+                    }
+                  }
+                },
+                "definitions": {
+                  "Pet": {
+                    "type": "object",
+                    "required": [],
+                    "properties": {
+                      "name": {
+                        "type": "string",
+                        "maxLength": 32
+                      }
+                    }
+                  }
+                }
+              }
+              """,
+            """
+              {
+                "openapi": "3.0.3",
+                "info": {
+                  "title": "Petstore",
+                  "version": "1.0.0"
+                },
+                "paths": {
+                  "/pets/{id}": {
+                    "get": {
+                      "parameters": [
+                        {
+                          "name": "id",
+                          "in": "path",
+                          "required": true,
+                          "schema": {
+                            "type": "integer"
+                          }
+                        }
+                      ],
+                      "responses": {
+                        "200": {
+                          "description": "A pet's details",
+                          "content": {
+                            "application/json": {
+                              "schema": {
+                                "$ref": "#/components/schemas/Pet"
+                              }
+                            }
+                          }
+                        }
+                      }
+                    }
+                  }
+                },
+                "components": {
+                  "schemas": {
+                    "Pet": {
+                      "type": "object",
+                      "required": [],
+                      "properties": {
+                        "name": {
+                          "type": "string",
+                          "maxLength": 32
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void openApi3DocumentIsUnchanged() {
+        rewriteRun(
+          //language=json
+          json(
+            """
+              {
+                "openapi": "3.0.3",
+                "paths": {}
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.spec;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class SwaggerSpecToOpenAPITest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.openapi.spec.SwaggerSpecToOpenAPI");
+    }
+
+    @DocumentExample
+    @Test
+    void migrateDocument() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              swagger: "2.0"
+              info:
+                title: Petstore
+                version: 1.0.0
+              host: petstore.example.com
+              basePath: /v1
+              schemes:
+                - https
+              consumes:
+                - application/json
+              produces:
+                - application/json
+              paths:
+                /pets:
+                  get:
+                    parameters:
+                      - name: limit
+                        in: query
+                        type: integer
+                        format: int32
+                    responses:
+                      "200":
+                        description: A list of pets
+                        schema:
+                          type: array
+                          items:
+                            $ref: "#/definitions/Pet"
+                  post:
+                    parameters:
+                      - name: pet
+                        in: body
+                        required: true
+                        schema:
+                          $ref: "#/definitions/Pet"
+                    responses:
+                      "201":
+                        description: Created
+              definitions:
+                Pet:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+              """,
+            """
+              openapi: 3.0.3
+              info:
+                title: Petstore
+                version: 1.0.0
+              servers:
+                - url: https://petstore.example.com/v1
+              paths:
+                /pets:
+                  get:
+                    parameters:
+                      - name: limit
+                        in: query
+                        schema:
+                          type: integer
+                          format: int32
+                    responses:
+                      "200":
+                        description: A list of pets
+                        content:
+                          application/json:
+                            schema:
+                              type: array
+                              items:
+                                $ref: "#/components/schemas/Pet"
+                  post:
+                    requestBody:
+                      required: true
+                      content:
+                        application/json:
+                          schema:
+                            $ref: "#/components/schemas/Pet"
+                    responses:
+                      "201":
+                        description: Created
+              components:
+                schemas:
+                  Pet:
+                    type: object
+                    properties:
+                      name:
+                        type: string
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveOpenApi3DocumentUnchanged() {
+        rewriteRun(
+          //language=yaml
+          yaml(
+            """
+              openapi: 3.0.3
+              info:
+                title: Petstore
+                version: 1.0.0
+              paths: {}
+              """
+          )
+        );
+    }
+}
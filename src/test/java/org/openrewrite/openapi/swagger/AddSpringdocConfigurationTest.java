@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class AddSpringdocConfigurationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddSpringdocConfiguration(null))
+          .parser(JavaParser.fromJavaVersion().dependsOn(
+            //language=java
+            """
+              package org.springframework.web.bind.annotation;
+              public @interface RestController {}
+              """
+          ));
+    }
+
+    //language=groovy
+    private static final String BUILD_GRADLE = """
+      dependencies {
+          implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.6.0")
+      }
+      """;
+
+    @DocumentExample
+    @Test
+    void addToApplicationYaml() {
+        rewriteRun(
+          text(BUILD_GRADLE, spec -> spec.path("build.gradle")),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example.api;
+
+                import org.springframework.web.bind.annotation.RestController;
+
+                @RestController
+                public class PetController {
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example.api.v2;
+
+                import org.springframework.web.bind.annotation.RestController;
+
+                @RestController
+                public class PetV2Controller {
+                }
+                """
+            )
+          ),
+          //language=yaml
+          yaml(
+            """
+              server:
+                port: 8080
+              """,
+            """
+              server:
+                port: 8080
+              springdoc:
+                packages-to-scan: com.example.api
+              """,
+            spec -> spec.path("src/main/resources/application.yml")
+          ),
+          //language=yaml
+          yaml(
+            null,
+            """
+              springdoc:
+                api-docs:
+                  enabled: false
+                swagger-ui:
+                  enabled: false
+              """,
+            spec -> spec.path("src/main/resources/application-prod.yml")
+          )
+        );
+    }
+
+    @Test
+    void addToProfileDocument() {
+        rewriteRun(
+          text(BUILD_GRADLE, spec -> spec.path("build.gradle")),
+          //language=yaml
+          yaml(
+            """
+              springdoc:
+                cache:
+                  disabled: true
+              ---
+              spring:
+                config:
+                  activate:
+                    on-profile: prod
+              springdoc.swagger-ui.enabled: true
+              """,
+            """
+              springdoc:
+                cache:
+                  disabled: true
+              ---
+              spring:
+                config:
+                  activate:
+                    on-profile: prod
+              springdoc.swagger-ui.enabled: true
+              springdoc:
+                api-docs:
+                  enabled: false
+              """,
+            spec -> spec.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void addToApplicationProperties() {
+        rewriteRun(
+          spec -> spec.recipe(new AddSpringdocConfiguration("prod, production")),
+          text(BUILD_GRADLE, spec -> spec.path("build.gradle")),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example.api;
+
+                import org.springframework.web.bind.annotation.RestController;
+
+                @RestController
+                public class PetController {
+                }
+                """
+            )
+          ),
+          properties(
+            """
+              server.port=8080
+              springdoc.packagesToScan=com.example
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          ),
+          properties(
+            """
+              logging.level.root=warn
+              """,
+            """
+              logging.level.root=warn
+              springdoc.api-docs.enabled=false
+              springdoc.swagger-ui.enabled=false
+              """,
+            spec -> spec.path("src/main/resources/application-prod.properties")
+          ),
+          properties(
+            null,
+            """
+              springdoc.api-docs.enabled=false
+              springdoc.swagger-ui.enabled=false
+              """,
+            spec -> spec.path("src/main/resources/application-production.properties")
+          )
+        );
+    }
+
+    @Test
+    void springdocDependencyInPom() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>petstore</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.springdoc</groupId>
+                          <artifactId>springdoc-openapi-ui</artifactId>
+                          <version>1.8.0</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          ),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example.api;
+
+                import org.springframework.web.bind.annotation.RestController;
+
+                @RestController
+                public class PetController {
+                }
+                """
+            )
+          ),
+          properties(
+            """
+              server.port=8080
+              """,
+            """
+              server.port=8080
+              springdoc.packages-to-scan=com.example.api
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          ),
+          properties(
+            null,
+            """
+              springdoc.api-docs.enabled=false
+              springdoc.swagger-ui.enabled=false
+              """,
+            spec -> spec.path("src/main/resources/application-prod.properties")
+          )
+        );
+    }
+
+    @Test
+    void noSpringdocDependency() {
+        rewriteRun(
+          text(
+            """
+              dependencies {
+                  implementation("io.swagger.core.v3:swagger-annotations:2.2.20")
+              }
+              """,
+            spec -> spec.path("build.gradle")
+          ),
+          properties(
+            """
+              server.port=8080
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+}
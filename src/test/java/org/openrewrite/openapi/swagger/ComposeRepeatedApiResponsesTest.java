@@ -0,0 +1,484 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.openapi.table.ComposedApiResponses;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.java.Assertions.srcTestJava;
+
+class ComposeRepeatedApiResponsesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ComposeRepeatedApiResponses(null))
+          .parser(JavaParser.fromJavaVersion().classpath("swagger-annotations-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void composeRepeatedResponses() {
+        rewriteRun(
+          spec -> spec.dataTable(ComposedApiResponses.Row.class, rows -> assertThat(rows).containsExactly(
+            new ComposedApiResponses.Row("com/example/CommonApiResponses.java", "com.example.CommonApiResponses", "400,500", true, 3))),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  @ApiResponses({
+                          @ApiResponse(responseCode = "400", description = "Bad request"),
+                          @ApiResponse(responseCode = "500", description = "Server error")
+                  })
+                  void create() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "500", description = "Server error"), @ApiResponse(description = "Bad request", responseCode = "400")})
+                  void update() {
+                  }
+
+                  @ApiResponses(value = {
+                          @ApiResponse(responseCode = "400", description = "Bad request"),
+                          @ApiResponse(responseCode = "500", description = "Server error")
+                  })
+                  void delete() {
+                  }
+
+                  @ApiResponses({
+                          @ApiResponse(responseCode = "404", description = "Not found")
+                  })
+                  void find() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  @CommonApiResponses
+                  void create() {
+                  }
+
+                  @CommonApiResponses
+                  void update() {
+                  }
+
+                  @CommonApiResponses
+                  void delete() {
+                  }
+
+                  @ApiResponses({
+                          @ApiResponse(responseCode = "404", description = "Not found")
+                  })
+                  void find() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              import java.lang.annotation.ElementType;
+              import java.lang.annotation.Retention;
+              import java.lang.annotation.RetentionPolicy;
+              import java.lang.annotation.Target;
+
+              @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+              @Retention(RetentionPolicy.RUNTIME)
+              @ApiResponses({
+                      @ApiResponse(responseCode = "400", description = "Bad request"),
+                      @ApiResponse(responseCode = "500", description = "Server error")
+              })
+              public @interface CommonApiResponses {
+              }
+              """,
+            spec -> spec.path("com/example/CommonApiResponses.java")
+          )
+        );
+    }
+
+    @Test
+    void reuseDeclaredComposedAnnotation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              import java.lang.annotation.Retention;
+              import java.lang.annotation.RetentionPolicy;
+
+              @Retention(RetentionPolicy.RUNTIME)
+              @ApiResponses(@ApiResponse(responseCode = "404", description = "Not found"))
+              public @interface NotFoundResponse {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  @ApiResponses({@ApiResponse(responseCode = "404", description = "Not found")})
+                  void find() {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              class PetController {
+                  @NotFoundResponse
+                  void find() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void belowMinimumOccurrences() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  @ApiResponses({@ApiResponse(responseCode = "400", description = "Bad request")})
+                  void create() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "400", description = "Bad request")})
+                  void update() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sameTextReferringToDifferentTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.pet;
+
+              public class Error {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.store;
+
+              public class Error {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.example.pet.Error;
+              import io.swagger.v3.oas.annotations.media.Content;
+              import io.swagger.v3.oas.annotations.media.Schema;
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  @ApiResponses({@ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = Error.class)))})
+                  void create() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = Error.class)))})
+                  void update() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.example.store.Error;
+              import io.swagger.v3.oas.annotations.media.Content;
+              import io.swagger.v3.oas.annotations.media.Schema;
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class StoreController {
+                  @ApiResponses({@ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = Error.class)))})
+                  void create() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void privateConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  private static final String NOT_FOUND = "Not found";
+
+                  @ApiResponses({@ApiResponse(responseCode = "404", description = NOT_FOUND)})
+                  void find() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "404", description = NOT_FOUND)})
+                  void update() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "404", description = NOT_FOUND)})
+                  void delete() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void typeNestedInTheController() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.media.Content;
+              import io.swagger.v3.oas.annotations.media.Schema;
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              class PetController {
+                  static class Inner {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = Inner.class)))})
+                  void create() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = Inner.class)))})
+                  void update() {
+                  }
+
+                  @ApiResponses({@ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = Inner.class)))})
+                  void delete() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void testSourcesReuseMainComposedAnnotations() {
+        rewriteRun(
+          spec -> spec.dataTable(ComposedApiResponses.Row.class, rows -> assertThat(rows).containsExactly(
+            new ComposedApiResponses.Row("src/main/java/com/example/CommonApiResponses.java", "com.example.CommonApiResponses", "400,500", true, 3),
+            new ComposedApiResponses.Row("src/test/java/com/example/CommonApiResponses2.java", "com.example.CommonApiResponses2", "404", true, 3),
+            new ComposedApiResponses.Row("src/main/java/com/example/CommonApiResponses.java", "com.example.CommonApiResponses", "400,500", false, 1))),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import io.swagger.v3.oas.annotations.responses.ApiResponse;
+                import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+                class PetController {
+                    @ApiResponses({@ApiResponse(responseCode = "400", description = "Bad request"), @ApiResponse(responseCode = "500", description = "Server error")})
+                    void create() {
+                    }
+
+                    @ApiResponses({@ApiResponse(responseCode = "400", description = "Bad request"), @ApiResponse(responseCode = "500", description = "Server error")})
+                    void update() {
+                    }
+
+                    @ApiResponses({@ApiResponse(responseCode = "400", description = "Bad request"), @ApiResponse(responseCode = "500", description = "Server error")})
+                    void delete() {
+                    }
+                }
+                """,
+              """
+                package com.example;
+
+                class PetController {
+                    @CommonApiResponses
+                    void create() {
+                    }
+
+                    @CommonApiResponses
+                    void update() {
+                    }
+
+                    @CommonApiResponses
+                    void delete() {
+                    }
+                }
+                """
+            )
+          ),
+          srcTestJava(
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import io.swagger.v3.oas.annotations.responses.ApiResponse;
+                import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+                class PetStub {
+                    @ApiResponses({@ApiResponse(responseCode = "400", description = "Bad request"), @ApiResponse(responseCode = "500", description = "Server error")})
+                    void create() {
+                    }
+
+                    @ApiResponses(@ApiResponse(responseCode = "404", description = "Not found"))
+                    void find() {
+                    }
+
+                    @ApiResponses(@ApiResponse(responseCode = "404", description = "Not found"))
+                    void findAll() {
+                    }
+
+                    @ApiResponses(@ApiResponse(responseCode = "404", description = "Not found"))
+                    void findByName() {
+                    }
+                }
+                """,
+              """
+                package com.example;
+
+                class PetStub {
+                    @CommonApiResponses
+                    void create() {
+                    }
+
+                    @CommonApiResponses2
+                    void find() {
+                    }
+
+                    @CommonApiResponses2
+                    void findAll() {
+                    }
+
+                    @CommonApiResponses2
+                    void findByName() {
+                    }
+                }
+                """
+            )
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              import java.lang.annotation.ElementType;
+              import java.lang.annotation.Retention;
+              import java.lang.annotation.RetentionPolicy;
+              import java.lang.annotation.Target;
+
+              @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+              @Retention(RetentionPolicy.RUNTIME)
+              @ApiResponses({
+                      @ApiResponse(responseCode = "400", description = "Bad request"),
+                      @ApiResponse(responseCode = "500", description = "Server error")
+              })
+              public @interface CommonApiResponses {
+              }
+              """,
+            spec -> spec.path("src/main/java/com/example/CommonApiResponses.java")
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+              import java.lang.annotation.ElementType;
+              import java.lang.annotation.Retention;
+              import java.lang.annotation.RetentionPolicy;
+              import java.lang.annotation.Target;
+
+              @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+              @Retention(RetentionPolicy.RUNTIME)
+              @ApiResponses({
+                      @ApiResponse(responseCode = "404", description = "Not found")
+              })
+              public @interface CommonApiResponses2 {
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/CommonApiResponses2.java")
+          )
+        );
+    }
+}
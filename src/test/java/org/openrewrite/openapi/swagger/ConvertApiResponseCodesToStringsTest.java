@@ -70,6 +70,76 @@ class ConvertApiResponseCodesToStringsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void convertAnnotationAmongModifiers() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import org.springframework.http.ResponseEntity;
+
+              class A {
+                  public @ApiResponse(responseCode = 200, description = "OK") ResponseEntity<User> method() { return null; }
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import org.springframework.http.ResponseEntity;
+
+              class A {
+                  public @ApiResponse(responseCode = "200", description = "OK") ResponseEntity<User> method() { return null; }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void convertInLocalAndAnonymousClasses() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import org.springframework.http.ResponseEntity;
+
+              class A {
+                  Object handler = new Object() {
+                      @ApiResponse(responseCode = 404, description = "Not found")
+                      ResponseEntity<User> method() { return null; }
+                  };
+
+                  void register() {
+                      class Local {
+                          @ApiResponse(responseCode = 200, description = "OK")
+                          ResponseEntity<User> method() { return null; }
+                      }
+                  }
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import org.springframework.http.ResponseEntity;
+
+              class A {
+                  Object handler = new Object() {
+                      @ApiResponse(responseCode = "404", description = "Not found")
+                      ResponseEntity<User> method() { return null; }
+                  };
+
+                  void register() {
+                      class Local {
+                          @ApiResponse(responseCode = "200", description = "OK")
+                          ResponseEntity<User> method() { return null; }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void noChangeOnAlreadyString() {
         //language=java
@@ -202,4 +272,40 @@ class ConvertApiResponseCodesToStringsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void convertPrivateConstantOfNestedClass() {
+        //language=java
+        rewriteRun(
+          spec -> spec.typeValidationOptions(TypeValidation.all().identifiers(false)),
+          java(
+            """
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import org.springframework.http.ResponseEntity;
+
+              class A {
+                  static class Codes {
+                      private static final int NOT_FOUND = 404;
+                  }
+
+                  @ApiResponse(responseCode = Codes.NOT_FOUND, description = "Not found")
+                  ResponseEntity<User> method() { return null; }
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+              import org.springframework.http.ResponseEntity;
+
+              class A {
+                  static class Codes {
+                      private static final int NOT_FOUND = 404;
+                  }
+
+                  @ApiResponse(responseCode = "404", description = "Not found")
+                  ResponseEntity<User> method() { return null; }
+              }
+              """
+          )
+        );
+    }
 }
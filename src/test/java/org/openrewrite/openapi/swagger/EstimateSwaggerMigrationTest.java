@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.openapi.table.SwaggerMigrationEstimates;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class EstimateSwaggerMigrationTest implements RewriteTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new EstimateSwaggerMigration())
+          .parser(JavaParser.fromJavaVersion().classpath("swagger-annotations-1.+", "rs-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void estimatesWithoutChangingSources() {
+        rewriteRun(
+          spec -> spec.dataTable(SwaggerMigrationEstimates.Row.class, rows -> assertThat(rows).containsExactly(
+            new SwaggerMigrationEstimates.Row("Example.java", "org.openrewrite.openapi.swagger.MigrateApiToTag",
+              "io.swagger.annotations.Api", 1, 1, 11),
+            new SwaggerMigrationEstimates.Row("Example.java", "org.openrewrite.openapi.swagger.MigrateApiOperationToOperation",
+              "io.swagger.annotations.ApiOperation", 2, 0, 2),
+            new SwaggerMigrationEstimates.Row("Example.java", "org.openrewrite.openapi.swagger.MigrateApiParamToParameter",
+              "io.swagger.annotations.ApiParam", 1, 1, 11)
+          )),
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.Api;
+              import io.swagger.annotations.ApiOperation;
+              import io.swagger.annotations.ApiParam;
+
+              @Api(tags = {"foo", "bar"}, hidden = true)
+              class Example {
+                  @ApiOperation(value = "Find")
+                  void find(@ApiParam(value = "Id", defaultValue = "1") String id) {
+                  }
+
+                  @ApiOperation(value = "Delete")
+                  void delete() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void implicitParamsRetemplateExistingParameters() {
+        rewriteRun(
+          spec -> spec
+            .parser(JavaParser.fromJavaVersion().classpath("swagger-annotations-1.+", "swagger-annotations-2"))
+            .dataTable(SwaggerMigrationEstimates.Row.class, rows -> assertThat(rows).containsExactly(
+              new SwaggerMigrationEstimates.Row("Example.java", "org.openrewrite.openapi.swagger.MigrateApiImplicitParamsToParameters",
+                "io.swagger.annotations.ApiImplicitParam", 2, 3, 32)
+            )),
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiImplicitParam;
+              import io.swagger.v3.oas.annotations.Parameter;
+
+              class Example {
+                  @ApiImplicitParam(name = "id", dataTypeClass = String.class)
+                  void find(@Parameter(description = "Name") String name) {
+                  }
+
+                  @ApiImplicitParam(name = "page")
+                  void list() {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
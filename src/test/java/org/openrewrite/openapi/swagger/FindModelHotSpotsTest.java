@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.openapi.table.ModelHotSpots;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class FindModelHotSpotsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindModelHotSpots())
+          .parser(JavaParser.fromJavaVersion().classpath("swagger-annotations-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void cycleOfModels() {
+        rewriteRun(
+          spec -> spec.dataTable(ModelHotSpots.Row.class, rows -> assertThat(rows).containsExactly(
+            new ModelHotSpots.Row("com/example/Owner.java", "com.example.Owner", 2, 1, 2, 2, 6),
+            new ModelHotSpots.Row("com/example/Pet.java", "com.example.Pet", 3, 2, 2, 2, 6),
+            new ModelHotSpots.Row("com/example/Tag.java", "com.example.Tag", 1, 0, 1, 0, 1))),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              import java.util.List;
+
+              @Schema(description = "A pet")
+              public class Pet {
+                  private String name;
+                  private Owner owner;
+                  private List<Tag> tags;
+              }
+              """,
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              import java.util.List;
+
+              /*~~(Part of a cycle of 2 model classes)~~>*/@Schema(description = "A pet")
+              public class Pet {
+                  private String name;
+                  private Owner owner;
+                  private List<Tag> tags;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.util.List;
+
+              public class Owner {
+                  private String name;
+                  private List<Pet> pets;
+              }
+              """,
+            """
+              package com.example;
+
+              import java.util.List;
+
+              /*~~(Part of a cycle of 2 model classes)~~>*/public class Owner {
+                  private String name;
+                  private List<Pet> pets;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Tag {
+                  private static final int MAX_LENGTH = 32;
+                  private String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void selfReferenceFromImplementation() {
+        rewriteRun(
+          spec -> spec.dataTable(ModelHotSpots.Row.class, rows -> assertThat(rows).containsExactly(
+            new ModelHotSpots.Row("com/example/Category.java", "com.example.Category", 2, 1, 1, 1, 2))),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Category {
+                  private String name;
+                  private Category parent;
+              }
+              """,
+            """
+              package com.example;
+
+              /*~~(Refers to itself)~~>*/public class Category {
+                  private String name;
+                  private Category parent;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.annotations.media.Content;
+              import io.swagger.v3.oas.annotations.media.Schema;
+              import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+              public class CategoryController {
+                  @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Category.class)))
+                  Category find() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noModels() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Category {
+                  private String name;
+              }
+              """
+          )
+        );
+    }
+}
@@ -183,4 +183,56 @@ class MigrateApiModelToSchemaTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void shouldMigrateImplicitValueToName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiModel;
+
+              @ApiModel("ApiModelExampleValue")
+              class Example {
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              @Schema(name = "ApiModelExampleValue")
+              class Example {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldMigrateEveryModelInFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiModel;
+
+              @ApiModel(value = "Outer")
+              class Outer {
+                  @ApiModel(value = "Inner", reference = "#/schemas/Inner")
+                  static class Inner {
+                  }
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              @Schema(name = "Outer")
+              class Outer {
+                  @Schema(name = "Inner", ref = "#/schemas/Inner")
+                  static class Inner {
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateApiParamAllowableValuesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipes(
+          new ChangeType("io.swagger.annotations.ApiParam", "io.swagger.v3.oas.annotations.Parameter", true),
+          new MigrateApiParamAllowableValues(true))
+          .parser(JavaParser.fromJavaVersion().classpath("swagger-annotations-1.+"));
+    }
+
+    @DocumentExample
+    @Test
+    void enumImplementation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiParam;
+
+              class Example {
+                enum Status { AVAILABLE, PENDING, SOLD }
+
+                @ApiParam(name = "status", allowableValues = "AVAILABLE, PENDING, SOLD")
+                private Status status;
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.Parameter;
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              class Example {
+                enum Status { AVAILABLE, PENDING, SOLD }
+
+                @Parameter(name = "status", schema = @Schema(implementation = Status.class))
+                private Status status;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void valuesOtherThanEnumConstants() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiParam;
+
+              class Example {
+                enum Status { AVAILABLE, PENDING, SOLD }
+
+                @ApiParam(name = "status", allowableValues = "AVAILABLE, SOLD")
+                private Status status;
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.Parameter;
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              class Example {
+                enum Status { AVAILABLE, PENDING, SOLD }
+
+                @Parameter(name = "status", schema = @Schema(allowableValues = "AVAILABLE, SOLD"))
+                private Status status;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void notAnEnum() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiParam;
+
+              class Example {
+                @ApiParam(name = "status", allowableValues = "AVAILABLE, SOLD")
+                private String status;
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.Parameter;
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              class Example {
+                @Parameter(name = "status", schema = @Schema(allowableValues = "AVAILABLE, SOLD"))
+                private String status;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void staticFieldOfTheEnumType() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.ApiParam;
+
+              class Example {
+                enum Status {
+                  AVAILABLE, SOLD;
+
+                  static final Status DEFAULT = AVAILABLE;
+                }
+
+                @ApiParam(name = "status", allowableValues = "AVAILABLE, SOLD")
+                private Status status;
+              }
+              """,
+            """
+              import io.swagger.v3.oas.annotations.Parameter;
+              import io.swagger.v3.oas.annotations.media.Schema;
+
+              class Example {
+                enum Status {
+                  AVAILABLE, SOLD;
+
+                  static final Status DEFAULT = AVAILABLE;
+                }
+
+                @Parameter(name = "status", schema = @Schema(implementation = Status.class))
+                private Status status;
+              }
+              """
+          )
+        );
+    }
+}
@@ -18,9 +18,11 @@ package org.openrewrite.openapi.swagger;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.openapi.table.SwaggerRecipeMetrics;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class MigrateApiToTagTest implements RewriteTest {
@@ -290,4 +292,70 @@ class MigrateApiToTagTest implements RewriteTest {
         );
     }
 
+    @Test
+    void hiddenWithAuthorizationAndTag() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.Api;
+              import io.swagger.annotations.Authorization;
+
+              @Api(tags = "foo", description = "Desc", hidden = true, authorizations = @Authorization(value="basic"))
+              class Example {}
+              """,
+            """
+              import io.swagger.v3.oas.annotations.Hidden;
+              import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+              import io.swagger.v3.oas.annotations.tags.Tag;
+
+              @Hidden
+              @SecurityRequirement(name = "basic")
+              @Tag(name = "foo", description = "Desc")
+              class Example {}
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportsRecipeMetrics() {
+        rewriteRun(
+          spec -> spec.recipes(new ReportSwaggerRecipeMetrics(), new MigrateApiToTag())
+            .dataTable(SwaggerRecipeMetrics.Row.class, rows -> {
+                assertThat(rows).hasSize(1);
+                SwaggerRecipeMetrics.Row row = rows.get(0);
+                assertThat(row.getRecipe()).isEqualTo("org.openrewrite.openapi.swagger.MigrateApiToTag");
+                assertThat(row.getSourcePath()).isEqualTo("Example.java");
+                assertThat(row.getPhase()).isEqualTo("edit");
+                assertThat(row.getAnnotationTypes()).isEqualTo("io.swagger.annotations.Api");
+                assertThat(row.getMatches()).isEqualTo(1);
+                assertThat(row.getTemplatesCompiled()).isEqualTo(1);
+                assertThat(row.getTemplatesApplied()).isEqualTo(1);
+                assertThat(row.getAutoFormats()).isEqualTo(2);
+                assertThat(row.getAfterVisits()).isEqualTo(4);
+            }),
+          //language=java
+          java(
+            """
+              import io.swagger.annotations.Api;
+
+              @Api(tags = {"foo", "bar"}, value = "Ignore", description = "Desc", hidden = true)
+              class Example {}
+              """,
+            """
+              import io.swagger.v3.oas.annotations.Hidden;
+              import io.swagger.v3.oas.annotations.tags.Tag;
+              import io.swagger.v3.oas.annotations.tags.Tags;
+
+              @Hidden
+              @Tags({
+                      @Tag(name = "foo", description = "Desc"),
+                      @Tag(name = "bar", description = "Desc")
+              })
+              class Example {}
+              """
+          )
+        );
+    }
 }
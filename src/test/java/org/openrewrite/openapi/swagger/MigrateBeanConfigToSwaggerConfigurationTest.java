@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.srcMainJava;
+
+class MigrateBeanConfigToSwaggerConfigurationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateBeanConfigToSwaggerConfiguration())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("jakarta.ws.rs-api")
+            .dependsOn(
+              //language=java
+              """
+                package io.swagger.jaxrs.config;
+                public class BeanConfig {
+                    public void setTitle(String title) {}
+                    public void setVersion(String version) {}
+                    public void setSchemes(String[] schemes) {}
+                    public void setHost(String host) {}
+                    public void setBasePath(String basePath) {}
+                    public void setResourcePackage(String resourcePackage) {}
+                    public void setPrettyPrint(boolean prettyPrint) {}
+                    public void setScan(boolean shouldScan) {}
+                    public void setFilterClass(String filterClass) {}
+                    public String getResourcePackage() { return null; }
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void beanConfigWithScan() {
+        rewriteRun(
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example.api;
+
+                import jakarta.ws.rs.Path;
+
+                @Path("/pets")
+                public class PetResource {
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import io.swagger.jaxrs.config.BeanConfig;
+
+                public class SwaggerBootstrap {
+                    public void init() {
+                        BeanConfig beanConfig = new BeanConfig();
+                        beanConfig.setTitle("Petstore");
+                        beanConfig.setVersion("1.0.0");
+                        beanConfig.setSchemes(new String[]{"https"});
+                        beanConfig.setHost("petstore.example.com");
+                        beanConfig.setBasePath("/api");
+                        beanConfig.setResourcePackage("com.example");
+                        beanConfig.setPrettyPrint(true);
+                        beanConfig.setScan(true);
+                    }
+                }
+                """,
+              """
+                package com.example;
+
+                import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+                import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+                import io.swagger.v3.oas.integration.SwaggerConfiguration;
+                import io.swagger.v3.oas.models.OpenAPI;
+                import io.swagger.v3.oas.models.info.Info;
+                import io.swagger.v3.oas.models.servers.Server;
+
+                import java.util.Arrays;
+                import java.util.HashSet;
+
+                public class SwaggerBootstrap {
+                    public void init() {
+                        SwaggerConfiguration beanConfig = new SwaggerConfiguration()
+                                .openAPI(new OpenAPI()
+                                        .info(new Info().title("Petstore").version("1.0.0"))
+                                        .servers(Arrays.asList(new Server().url("https://petstore.example.com/api"))))
+                                .resourceClasses(new HashSet<>(Arrays.asList("com.example.api.PetResource")))
+                                .readAllResources(false)
+                                .prettyPrint(false);
+                        try {
+                            new JaxrsOpenApiContextBuilder()
+                                    .openApiConfiguration(beanConfig)
+                                    .buildContext(true);
+                        } catch (OpenApiConfigurationException e) {
+                            throw new IllegalStateException(e.getMessage(), e);
+                        }
+                    }
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void includeDefinitionClasses() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package io.swagger.annotations;
+              public @interface SwaggerDefinition {
+              }
+              """
+          ),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package com.example.api;
+
+                import jakarta.ws.rs.Path;
+
+                @Path("/pets")
+                public class PetResource {
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example.api;
+
+                import io.swagger.annotations.SwaggerDefinition;
+
+                @SwaggerDefinition
+                public class ApiDefinition {
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import io.swagger.jaxrs.config.BeanConfig;
+
+                public class SwaggerBootstrap {
+                    public void init() {
+                        BeanConfig beanConfig = new BeanConfig();
+                        beanConfig.setResourcePackage("com.example.api");
+                    }
+                }
+                """,
+              """
+                package com.example;
+
+                import io.swagger.v3.oas.integration.SwaggerConfiguration;
+                import io.swagger.v3.oas.models.OpenAPI;
+
+                import java.util.Arrays;
+                import java.util.HashSet;
+
+                public class SwaggerBootstrap {
+                    public void init() {
+                        SwaggerConfiguration beanConfig = new SwaggerConfiguration()
+                                .openAPI(new OpenAPI())
+                                .resourceClasses(new HashSet<>(Arrays.asList("com.example.api.ApiDefinition", "com.example.api.PetResource")))
+                                .readAllResources(false)
+                                .prettyPrint(false);
+                    }
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void resourcePackagesWithoutSources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.jaxrs.config.BeanConfig;
+
+              public class SwaggerBootstrap {
+                  public void init() {
+                      BeanConfig beanConfig = new BeanConfig();
+                      beanConfig.setBasePath("/api");
+                      beanConfig.setResourcePackage("com.example.pets,com.example.stores");
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.swagger.v3.oas.integration.SwaggerConfiguration;
+              import io.swagger.v3.oas.models.OpenAPI;
+              import io.swagger.v3.oas.models.servers.Server;
+
+              import java.util.Arrays;
+              import java.util.HashSet;
+
+              public class SwaggerBootstrap {
+                  public void init() {
+                      SwaggerConfiguration beanConfig = new SwaggerConfiguration()
+                              .openAPI(new OpenAPI()
+                                      .servers(Arrays.asList(new Server().url("/api"))))
+                              .resourcePackages(new HashSet<>(Arrays.asList("com.example.pets", "com.example.stores")))
+                              .readAllResources(false)
+                              .prettyPrint(false);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unsupportedSetter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.jaxrs.config.BeanConfig;
+
+              public class SwaggerBootstrap {
+                  public void init() {
+                      BeanConfig beanConfig = new BeanConfig();
+                      beanConfig.setFilterClass("com.example.SecurityFilter");
+                      beanConfig.setScan(true);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void usedAfterSetup() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import io.swagger.jaxrs.config.BeanConfig;
+
+              public class SwaggerBootstrap {
+                  public String init() {
+                      BeanConfig beanConfig = new BeanConfig();
+                      beanConfig.setResourcePackage("com.example");
+                      beanConfig.setScan(true);
+                      return beanConfig.getResourcePackage();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.openapi.swagger;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.openapi.table.DocketMigrationIssues;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateDocketToGroupedOpenApiTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateDocketToGroupedOpenApi())
+          .parser(JavaParser.fromJavaVersion().dependsOn(
+            //language=java
+            """
+              package springfox.documentation.spi;
+              public class DocumentationType {
+                  public static final DocumentationType SWAGGER_2 = new DocumentationType();
+              }
+              """,
+            //language=java
+            """
+              package springfox.documentation.spring.web.plugins;
+              import springfox.documentation.spi.DocumentationType;
+              public class Docket {
+                  public Docket(DocumentationType documentationType) {}
+                  public ApiSelectorBuilder select() { return null; }
+                  public Docket groupName(String groupName) { return this; }
+                  public Docket enable(boolean enable) { return this; }
+              }
+              """,
+            //language=java
+            """
+              package springfox.documentation.spring.web.plugins;
+              import java.util.function.Predicate;
+              public class ApiSelectorBuilder {
+                  public ApiSelectorBuilder apis(Predicate<Object> selector) { return this; }
+                  public ApiSelectorBuilder paths(Predicate<String> selector) { return this; }
+                  public Docket build() { return null; }
+              }
+              """,
+            //language=java
+            """
+              package springfox.documentation.builders;
+              import java.util.function.Predicate;
+              public class RequestHandlerSelectors {
+                  public static Predicate<Object> any() { return null; }
+                  public static Predicate<Object> basePackage(String basePackage) { return null; }
+              }
+              """,
+            //language=java
+            """
+              package springfox.documentation.builders;
+              import java.util.function.Predicate;
+              public class PathSelectors {
+                  public static Predicate<String> any() { return null; }
+                  public static Predicate<String> ant(String antPattern) { return null; }
+                  public static Predicate<String> regex(String pathRegex) { return null; }
+              }
+              """
+         ,
+            //language=java
+            """
+              package org.springdoc.core.models;
+              public class GroupedOpenApi {
+                  public static Builder builder() { return new Builder(); }
+                  public static class Builder {
+                      public Builder group(String group) { return this; }
+                      public Builder pathsToMatch(String... pathsToMatch) { return this; }
+                      public GroupedOpenApi build() { return null; }
+                  }
+              }
+              """
+          ));
+    }
+
+    @DocumentExample
+    @Test
+    void narrowedSelectors() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import springfox.documentation.builders.PathSelectors;
+              import springfox.documentation.builders.RequestHandlerSelectors;
+              import springfox.documentation.spi.DocumentationType;
+              import springfox.documentation.spring.web.plugins.Docket;
+
+              class SwaggerConfig {
+                  Docket publicApi() {
+                      return new Docket(DocumentationType.SWAGGER_2)
+                              .groupName("public")
+                              .select()
+                              .apis(RequestHandlerSelectors.basePackage("com.example.api"))
+                              .paths(PathSelectors.regex("/api/.*"))
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.springdoc.core.GroupedOpenApi;
+
+              class SwaggerConfig {
+                  GroupedOpenApi publicApi() {
+                      return GroupedOpenApi.builder()
+                              .group("public")
+                              .packagesToScan("com.example.api")
+                              .pathsToMatch("/api/**")
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportSelectorsThatAreNotNarrowed() {
+        rewriteRun(
+          spec -> spec.dataTable(DocketMigrationIssues.Row.class, rows -> {
+              assertThat(rows).hasSize(2);
+              assertThat(rows.get(0).getExpression()).isEqualTo("RequestHandlerSelectors.any()");
+              assertThat(rows.get(1).getExpression()).isEqualTo("PathSelectors.any()");
+          }),
+          //language=java
+          java(
+            """
+              import springfox.documentation.builders.PathSelectors;
+              import springfox.documentation.builders.RequestHandlerSelectors;
+              import springfox.documentation.spi.DocumentationType;
+              import springfox.documentation.spring.web.plugins.Docket;
+
+              class SwaggerConfig {
+                  Docket api() {
+                      return new Docket(DocumentationType.SWAGGER_2)
+                              .select()
+                              .apis(RequestHandlerSelectors.any())
+                              .paths(PathSelectors.any())
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.springdoc.core.GroupedOpenApi;
+
+              class SwaggerConfig {
+                  GroupedOpenApi api() {
+                      return GroupedOpenApi.builder()
+                              .group("api")
+                              .pathsToMatch("/**")
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void springdoc2AlreadyInUse() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springdoc.core.models.GroupedOpenApi;
+              import springfox.documentation.builders.PathSelectors;
+              import springfox.documentation.spi.DocumentationType;
+              import springfox.documentation.spring.web.plugins.Docket;
+
+              class SwaggerConfig {
+                  GroupedOpenApi adminApi() {
+                      return GroupedOpenApi.builder()
+                              .group("admin")
+                              .pathsToMatch("/admin/**")
+                              .build();
+                  }
+
+                  Docket publicApi() {
+                      return new Docket(DocumentationType.SWAGGER_2)
+                              .select()
+                              .paths(PathSelectors.ant("/api/**"))
+                              .build();
+                  }
+              }
+              """,
+            """
+              import org.springdoc.core.models.GroupedOpenApi;
+
+              class SwaggerConfig {
+                  GroupedOpenApi adminApi() {
+                      return GroupedOpenApi.builder()
+                              .group("admin")
+                              .pathsToMatch("/admin/**")
+                              .build();
+                  }
+
+                  GroupedOpenApi publicApi() {
+                      return GroupedOpenApi.builder()
+                              .group("publicApi")
+                              .pathsToMatch("/api/**")
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDocketWithCombinedSelectors() {
+        rewriteRun(
+          spec -> spec.dataTable(DocketMigrationIssues.Row.class, rows ->
+            assertThat(rows).singleElement().extracting(DocketMigrationIssues.Row::getExpression)
+              .isEqualTo("RequestHandlerSelectors.basePackage(\"com.example.internal\")")),
+          //language=java
+          java(
+            """
+              import springfox.documentation.builders.RequestHandlerSelectors;
+              import springfox.documentation.spi.DocumentationType;
+              import springfox.documentation.spring.web.plugins.Docket;
+
+              class SwaggerConfig {
+                  Docket api() {
+                      return new Docket(DocumentationType.SWAGGER_2)
+                              .select()
+                              .apis(RequestHandlerSelectors.basePackage("com.example"))
+                              .apis(RequestHandlerSelectors.basePackage("com.example.internal"))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDocketWithOtherConfiguration() {
+        rewriteRun(
+          spec -> spec.dataTable(DocketMigrationIssues.Row.class, rows ->
+            assertThat(rows).singleElement().extracting(DocketMigrationIssues.Row::getExpression).isEqualTo("enable(..)")),
+          //language=java
+          java(
+            """
+              import springfox.documentation.builders.RequestHandlerSelectors;
+              import springfox.documentation.spi.DocumentationType;
+              import springfox.documentation.spring.web.plugins.Docket;
+
+              class SwaggerConfig {
+                  Docket api() {
+                      return new Docket(DocumentationType.SWAGGER_2)
+                              .enable(false)
+                              .select()
+                              .apis(RequestHandlerSelectors.basePackage("com.example"))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}